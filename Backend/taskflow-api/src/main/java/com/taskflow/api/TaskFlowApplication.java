@@ -3,11 +3,13 @@ package com.taskflow.api;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.PropertySource;
 
 @SpringBootApplication
 @EnableConfigurationProperties
+@PropertySource("classpath:taskflow-defaults.properties")
 public class TaskFlowApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(TaskFlowApplication.class, args);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package com.taskflow.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "taskflow.activity")
+public class ActivityConfig {
+    private int queueCapacity = 10_000;
+    // How long a committing request waits for queue space before the entry is dropped (and counted).
+    private long offerTimeoutMillis = 500;
+    private int batchSize = 500;
+    private int retentionMonths = 12;
+}
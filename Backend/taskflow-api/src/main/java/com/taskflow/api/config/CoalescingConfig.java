@@ -0,0 +1,14 @@
+package com.taskflow.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "taskflow.coalescing")
+public class CoalescingConfig {
+    private boolean enabled = true;
+    // How long a caller waits on another request's load before loading on its own.
+    private long timeoutMillis = 2_000;
+}
@@ -0,0 +1,14 @@
+package com.taskflow.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "taskflow.dashboard")
+public class DashboardConfig {
+    // How stale the board counts (and overdue counts in particular) may get.
+    private long refreshMillis = 60_000;
+    private int maxPageSize = 200;
+}
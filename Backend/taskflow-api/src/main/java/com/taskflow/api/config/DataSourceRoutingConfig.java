@@ -0,0 +1,62 @@
+package com.taskflow.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces Boot's single pool with a primary and a replica pool when a replica is configured. Both pools
+ * register their Hikari MBeans (active, idle and pending connections per pool) under their pool names.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "taskflow.datasource.replica", name = "url")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("taskflow-primary");
+        dataSource.setRegisterMbeans(true);
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(HikariDataSource primaryDataSource, DataSourceProperties properties,
+                                              ReadReplicaConfig replicaConfig) {
+        // Same timeouts, lifetimes and driver properties as the primary; only the target and size differ.
+        HikariDataSource dataSource = new HikariDataSource();
+        primaryDataSource.copyStateTo(dataSource);
+        dataSource.setPoolName("taskflow-replica");
+        dataSource.setJdbcUrl(replicaConfig.getUrl());
+        dataSource.setUsername(replicaConfig.getUsername() != null
+                ? replicaConfig.getUsername() : properties.determineUsername());
+        dataSource.setPassword(replicaConfig.getPassword() != null
+                ? replicaConfig.getPassword() : properties.determinePassword());
+        dataSource.setMaximumPoolSize(replicaConfig.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        dataSource.setRegisterMbeans(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             HikariDataSource replicaDataSource,
+                                                             ReadReplicaConfig replicaConfig) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaConfig.getMaxLagMillis(),
+                replicaConfig.getReadYourWritesMillis());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
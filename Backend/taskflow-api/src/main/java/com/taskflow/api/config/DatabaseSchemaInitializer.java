@@ -0,0 +1,71 @@
+package com.taskflow.api.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Applies the SQL scripts under {@code db/schema} that Hibernate's schema update cannot express
+ * (partial indexes, triggers, partitioned tables). Each script runs once and is recorded in
+ * {@code schema_scripts}; scripts are applied in file name order after the entity tables exist and
+ * before the web server and schedulers start, so no request or job sees a half-migrated schema.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class DatabaseSchemaInitializer implements InitializingBean {
+    private static final String SCRIPT_LOCATION = "classpath:db/schema/*.sql";
+    private static final long SCHEMA_LOCK_KEY = 0x7a5cf10e0001L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                applySchemaScripts();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private void applySchemaScripts() throws IOException {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS schema_scripts (" +
+                "name VARCHAR(255) PRIMARY KEY, applied_at TIMESTAMP NOT NULL DEFAULT now())");
+        // Serialises concurrent node start-ups; released when the transaction ends.
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(?)", Object.class, SCHEMA_LOCK_KEY);
+
+        Set<String> applied = new HashSet<>(
+                jdbcTemplate.queryForList("SELECT name FROM schema_scripts", String.class));
+
+        Resource[] scripts = new PathMatchingResourcePatternResolver().getResources(SCRIPT_LOCATION);
+        Arrays.sort(scripts, Comparator.comparing(Resource::getFilename));
+
+        for (Resource script : scripts) {
+            String name = script.getFilename();
+            if (applied.contains(name)) {
+                continue;
+            }
+            jdbcTemplate.execute(script.getContentAsString(StandardCharsets.UTF_8));
+            jdbcTemplate.update("INSERT INTO schema_scripts (name) VALUES (?)", name);
+            log.info("Applied schema script {}", name);
+        }
+    }
+}
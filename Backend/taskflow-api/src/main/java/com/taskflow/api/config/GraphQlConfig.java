@@ -0,0 +1,17 @@
+package com.taskflow.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "taskflow.graphql")
+public class GraphQlConfig {
+    // board { lists { cards { comments { author { email } } } } } is six levels deep.
+    private int maxDepth = 6;
+    // Each selected field counts one; bounds the size of a single query document.
+    private int maxComplexity = 200;
+    // Upper bound on rows one batch (all lists, all cards, ...) may return for a request.
+    private int maxRowsPerLevel = 20_000;
+}
@@ -0,0 +1,25 @@
+package com.taskflow.api.config;
+
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Query limits for the GraphQL endpoint. Boot adds every {@code Instrumentation} bean to the engine; both
+ * checks run on the parsed document, so an over-deep or over-wide query is rejected before any resolver
+ * touches the database.
+ */
+@Configuration
+public class GraphQlInstrumentationConfig {
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(GraphQlConfig graphQlConfig) {
+        return new MaxQueryDepthInstrumentation(graphQlConfig.getMaxDepth());
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(GraphQlConfig graphQlConfig) {
+        return new MaxQueryComplexityInstrumentation(graphQlConfig.getMaxComplexity());
+    }
+}
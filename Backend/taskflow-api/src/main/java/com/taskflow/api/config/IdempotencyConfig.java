@@ -0,0 +1,16 @@
+package com.taskflow.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "taskflow.idempotency")
+public class IdempotencyConfig {
+    private int ttlHours = 24;
+    // Completed responses kept in memory in front of the table.
+    private int cacheSize = 10_000;
+    // An in-flight claim older than this is assumed abandoned (e.g. the node died) and may be taken over.
+    private int claimTimeoutSeconds = 60;
+}
@@ -0,0 +1,17 @@
+package com.taskflow.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "taskflow.invalidation")
+public class InvalidationConfig {
+    private boolean enabled = true;
+    private String channel = "taskflow_invalidation";
+    // Committed invalidations are applied locally and sent at most this often.
+    private long coalesceMillis = 50;
+    // Beyond this many distinct entities in one batch, a whole-type flush is cheaper.
+    private int maxKeysPerBatch = 1_000;
+}
@@ -10,10 +10,10 @@ import org.springframework.stereotype.Component;
 public class JwtConfig {
     private String secretKey;
     private long expiration;
-    private RefreshToken refreshToken;
+    private RefreshToken refreshToken = new RefreshToken();
 
     @Data
     public static class RefreshToken {
-        private long expiration;
+        private long expiration = 14L * 24 * 60 * 60 * 1000;
     }
 }
\ No newline at end of file
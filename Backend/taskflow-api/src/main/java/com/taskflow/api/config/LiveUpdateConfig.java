@@ -0,0 +1,14 @@
+package com.taskflow.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "taskflow.live")
+public class LiveUpdateConfig {
+    // "postgres" relays updates between nodes over NOTIFY; "memory" keeps them on this node (tests, single node).
+    private String relay = "postgres";
+    private String channel = "taskflow_board_updates";
+}
@@ -0,0 +1,13 @@
+package com.taskflow.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "taskflow.purge")
+public class PurgeConfig {
+    private int retentionDays = 30;
+    private int batchSize = 500;
+}
@@ -0,0 +1,42 @@
+package com.taskflow.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "taskflow.rate-limit")
+public class RateLimitConfig {
+    private boolean enabled = true;
+    // Buckets tracked per budget; idle (full) buckets are evicted first.
+    private int maxKeys = 100_000;
+    // Share consumption with other nodes through the rate_limit_usage table.
+    private boolean shared = false;
+    private long syncMillis = 1_000;
+    // Addresses or CIDR ranges of our own load balancers; X-Forwarded-For is only believed from these.
+    private List<String> trustedProxies = new ArrayList<>();
+    // Login, verification and refresh, per client IP and submitted email.
+    private Budget auth = new Budget(10, 60);
+    // All auth calls per client IP, whatever the email, so cycling emails does not reset the budget.
+    private Budget authIp = new Budget(30, 60);
+    // Non-GET API calls, per user (per IP when anonymous).
+    private Budget write = new Budget(120, 60);
+
+    @Data
+    public static class Budget {
+        private int capacity;
+        private long refillPeriodSeconds;
+
+        public Budget() {
+        }
+
+        public Budget(int capacity, long refillPeriodSeconds) {
+            this.capacity = capacity;
+            this.refillPeriodSeconds = refillPeriodSeconds;
+        }
+    }
+}
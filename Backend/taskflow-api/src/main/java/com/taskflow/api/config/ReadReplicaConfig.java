@@ -0,0 +1,24 @@
+package com.taskflow.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Optional read replica. Setting {@code url} enables routing; pointing it at the primary database (or a
+ * second local instance) is enough to exercise the routing without real replication.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "taskflow.datasource.replica")
+public class ReadReplicaConfig {
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+    private long maxLagMillis = 1_000;
+    private long lagCheckMillis = 1_000;
+    // After a write commits, that user's reads stay on the primary this long; must cover max lag plus one
+    // lag check, the worst case a replica that just passed the check can be behind.
+    private long readYourWritesMillis = 3_000;
+}
@@ -0,0 +1,17 @@
+package com.taskflow.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "taskflow.reminders")
+public class ReminderConfig {
+    private boolean enabled = true;
+    private long leadTimeMinutes = 60;
+    private long sliceMillis = 300_000;
+    private long tickMillis = 1_000;
+    private int batchSize = 500;
+    private long userBatchWindowMillis = 60_000;
+}
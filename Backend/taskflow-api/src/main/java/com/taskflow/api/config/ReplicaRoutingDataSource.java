@@ -0,0 +1,125 @@
+package com.taskflow.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends read-only transactions to the replica while its replication lag is within bounds, and everything
+ * else to the primary. Must sit behind a {@code LazyConnectionDataSourceProxy} so the connection is
+ * chosen after the transaction's read-only flag has been set.
+ *
+ * <p>A user whose write transaction committed recently reads from the primary until the replica can be
+ * assumed to have replayed it, so nobody reads an older state than the one they just wrote. Threads
+ * without an authenticated user (schedulers, listeners) share one pin.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    // Zero on a primary or a fully replayed standby; otherwise the age of the last replayed transaction.
+    private static final String LAG_QUERY = "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+    private static final String SYSTEM_WRITER = "";
+
+    private enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final DataSource replica;
+    private final long maxLagMillis;
+    private final long readYourWritesMillis;
+    // Writer -> time (ms) until which its reads stay on the primary.
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+    private volatile boolean replicaAvailable;
+    private volatile long lagMillis = -1;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, long maxLagMillis,
+                                    long readYourWritesMillis) {
+        this.replica = replica;
+        this.maxLagMillis = maxLagMillis;
+        this.readYourWritesMillis = readYourWritesMillis;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String writer = currentWriter();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pinAfterCommit(writer);
+            return Route.PRIMARY;
+        }
+        return replicaAvailable && !isPinned(writer) ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    private void pinAfterCommit(String writer) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pinnedUntil.put(writer, System.currentTimeMillis() + readYourWritesMillis);
+            }
+        });
+    }
+
+    private boolean isPinned(String writer) {
+        Long until = pinnedUntil.get(writer);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    private String currentWriter() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : SYSTEM_WRITER;
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.datasource.replica.lag-check-millis:1000}")
+    public void checkReplicaLag() {
+        long now = System.currentTimeMillis();
+        pinnedUntil.values().removeIf(until -> until <= now);
+
+        boolean available;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(LAG_QUERY)) {
+            result.next();
+            lagMillis = result.getLong(1);
+            available = lagMillis <= maxLagMillis;
+        } catch (SQLException ex) {
+            lagMillis = -1;
+            available = false;
+        }
+
+        if (available != replicaAvailable) {
+            if (available) {
+                log.info("Read replica available (lag {} ms); routing read-only transactions to it", lagMillis);
+            } else {
+                log.warn("Read replica unavailable or lagging (lag {} ms); routing reads to the primary", lagMillis);
+            }
+        }
+        replicaAvailable = available;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
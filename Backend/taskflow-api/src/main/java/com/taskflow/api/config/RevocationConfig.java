@@ -0,0 +1,15 @@
+package com.taskflow.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "taskflow.revocation")
+public class RevocationConfig {
+    // Bloom filters are kept per hour of token expiry and dropped once that hour has passed.
+    private int expectedRevocationsPerHour = 10_000;
+    private double falsePositiveRate = 0.01;
+    private long syncMillis = 5_000;
+}
@@ -0,0 +1,13 @@
+package com.taskflow.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "taskflow.sync")
+public class SyncConfig {
+    private int tombstoneRetentionDays = 30;
+    private int maxDeltaSize = 1000;
+}
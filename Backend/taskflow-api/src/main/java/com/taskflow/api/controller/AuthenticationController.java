@@ -2,10 +2,13 @@ package com.taskflow.api.controller;
 
 import com.taskflow.api.dto.auth.AuthenticationRequest;
 import com.taskflow.api.dto.auth.AuthenticationResponse;
+import com.taskflow.api.dto.auth.RefreshTokenRequest;
 import com.taskflow.api.dto.auth.RegisterRequest;
 import com.taskflow.api.service.AuthenticationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -29,6 +32,28 @@ public class AuthenticationController {
         return ResponseEntity.ok(authenticationService.authenticate(request));
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthenticationResponse> refresh(
+            @RequestBody RefreshTokenRequest request
+    ) {
+        return ResponseEntity.ok(authenticationService.refresh(request));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            @RequestBody(required = false) RefreshTokenRequest request
+    ) {
+        authenticationService.logout(authorization.substring(7), request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/revoke-all")
+    public ResponseEntity<Void> revokeAllSessions(Authentication authentication) {
+        authenticationService.revokeAllSessions(authentication.getName());
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/verify")
     public ResponseEntity<AuthenticationResponse> verifyEmail(
             @RequestParam String email,
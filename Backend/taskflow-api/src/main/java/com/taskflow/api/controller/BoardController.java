@@ -1,8 +1,17 @@
 package com.taskflow.api.controller;
 
+import com.taskflow.api.dto.ActivityPageDTO;
+import com.taskflow.api.dto.BoardChangesDTO;
 import com.taskflow.api.dto.BoardDTO;
+import com.taskflow.api.dto.BoardDeletionStatusDTO;
+import com.taskflow.api.dto.BoardMemberDTO;
+import com.taskflow.api.dto.BoardMemberRequest;
+import com.taskflow.api.dto.CopyBoardRequest;
 import com.taskflow.api.dto.CreateBoardRequest;
+import com.taskflow.api.service.ActivityLogService;
+import com.taskflow.api.service.BoardMemberService;
 import com.taskflow.api.service.BoardService;
+import com.taskflow.api.service.BoardSyncService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -16,6 +25,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BoardController {
     private final BoardService boardService;
+    private final ActivityLogService activityLogService;
+    private final BoardSyncService boardSyncService;
+    private final BoardMemberService boardMemberService;
 
     @GetMapping
     public ResponseEntity<List<BoardDTO>> getUserBoards(Authentication authentication) {
@@ -41,6 +53,16 @@ public class BoardController {
         return ResponseEntity.ok(boardService.getBoard(id, email));
     }
 
+    @PostMapping("/{id}/copy")
+    public ResponseEntity<BoardDTO> copyBoard(
+            @PathVariable Long id,
+            @RequestBody(required = false) CopyBoardRequest request,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(boardService.copyBoard(id, request != null ? request : new CopyBoardRequest(), email));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<BoardDTO> updateBoard(
             @PathVariable Long id,
@@ -52,12 +74,87 @@ public class BoardController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteBoard(
+    public ResponseEntity<BoardDeletionStatusDTO> deleteBoard(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean async,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        BoardDeletionStatusDTO status = boardService.deleteBoard(id, email, async);
+        if (async) {
+            return ResponseEntity.accepted().body(status);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{id}/deletion")
+    public ResponseEntity<BoardDeletionStatusDTO> getDeletionStatus(
+            @PathVariable Long id,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(boardService.getDeletionStatus(id, email));
+    }
+
+    @GetMapping("/{id}/activity")
+    public ResponseEntity<ActivityPageDTO> getBoardActivity(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(activityLogService.getBoardActivity(id, email, cursor, limit));
+    }
+
+    @GetMapping("/{id}/changes")
+    public ResponseEntity<BoardChangesDTO> getBoardChanges(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") long since,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(boardSyncService.getChanges(id, since, email));
+    }
+
+    @GetMapping("/{id}/members")
+    public ResponseEntity<List<BoardMemberDTO>> getMembers(
+            @PathVariable Long id,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(boardMemberService.getMembers(id, email));
+    }
+
+    @PostMapping("/{id}/members")
+    public ResponseEntity<BoardMemberDTO> addMember(
+            @PathVariable Long id,
+            @Valid @RequestBody BoardMemberRequest request,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(boardMemberService.addMember(id, request, email));
+    }
+
+    @PutMapping("/{id}/members/{userId}")
+    public ResponseEntity<BoardMemberDTO> updateMember(
+            @PathVariable Long id,
+            @PathVariable Long userId,
+            @Valid @RequestBody BoardMemberRequest request,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(boardMemberService.updateMember(id, userId, request, email));
+    }
+
+    @DeleteMapping("/{id}/members/{userId}")
+    public ResponseEntity<Void> removeMember(
             @PathVariable Long id,
+            @PathVariable Long userId,
             Authentication authentication
     ) {
         String email = authentication.getName();
-        boardService.deleteBoard(id, email);
+        boardMemberService.removeMember(id, userId, email);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+}
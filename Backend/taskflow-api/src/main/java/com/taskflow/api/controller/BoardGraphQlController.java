@@ -0,0 +1,71 @@
+package com.taskflow.api.controller;
+
+import com.taskflow.api.dto.BoardDTO;
+import com.taskflow.api.dto.BoardListDTO;
+import com.taskflow.api.dto.CardDTO;
+import com.taskflow.api.dto.ChecklistItemDTO;
+import com.taskflow.api.dto.CommentDTO;
+import com.taskflow.api.service.BoardViewService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * GraphQL read API over boards. Every nested level is a {@link BatchMapping}: the engine collects all
+ * parents of a level and calls the mapping once, so the whole tree is one query per selected level.
+ */
+@Controller
+@RequiredArgsConstructor
+public class BoardGraphQlController {
+    private final BoardViewService boardViewService;
+
+    @QueryMapping
+    public BoardDTO board(@Argument Long id, Authentication authentication) {
+        String email = authentication.getName();
+        return boardViewService.getBoard(id, email);
+    }
+
+    @BatchMapping(typeName = "Board")
+    public List<List<BoardListDTO>> lists(List<BoardDTO> boards) {
+        Map<Long, List<BoardListDTO>> lists = boardViewService.getListsByBoardIds(ids(boards, BoardDTO::getId));
+        return children(boards, BoardDTO::getId, lists);
+    }
+
+    @BatchMapping(typeName = "BoardList")
+    public List<List<CardDTO>> cards(List<BoardListDTO> lists) {
+        Map<Long, List<CardDTO>> cards = boardViewService.getCardsByListIds(ids(lists, BoardListDTO::getId));
+        return children(lists, BoardListDTO::getId, cards);
+    }
+
+    @BatchMapping(typeName = "Card")
+    public List<List<CommentDTO>> comments(List<CardDTO> cards) {
+        Map<Long, List<CommentDTO>> comments = boardViewService.getCommentsByCardIds(ids(cards, CardDTO::getId));
+        return children(cards, CardDTO::getId, comments);
+    }
+
+    @BatchMapping(typeName = "Card")
+    public List<List<ChecklistItemDTO>> checklistItems(List<CardDTO> cards) {
+        Map<Long, List<ChecklistItemDTO>> items =
+                boardViewService.getChecklistItemsByCardIds(ids(cards, CardDTO::getId));
+        return children(cards, CardDTO::getId, items);
+    }
+
+    private <P> List<Long> ids(List<P> parents, Function<P, Long> id) {
+        return parents.stream().map(id).distinct().collect(Collectors.toList());
+    }
+
+    // Batch results must line up with the parents they were requested for.
+    private <P, C> List<List<C>> children(List<P> parents, Function<P, Long> id, Map<Long, List<C>> byParent) {
+        return parents.stream()
+                .map(parent -> byParent.getOrDefault(id.apply(parent), List.of()))
+                .collect(Collectors.toList());
+    }
+}
@@ -2,6 +2,7 @@ package com.taskflow.api.controller;
 
 import com.taskflow.api.dto.BoardListDTO;
 import com.taskflow.api.dto.CreateBoardListRequest;
+import com.taskflow.api.dto.ListOrderDTO;
 import com.taskflow.api.service.BoardListService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/lists")
@@ -26,6 +28,16 @@ public class BoardListController {
         return ResponseEntity.ok(boardListService.getListsByBoard(boardId, email));
     }
 
+    @GetMapping(value = "/board/{boardId}", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getListFieldsByBoard(
+            @PathVariable Long boardId,
+            @RequestParam String fields,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(boardListService.getListFieldsByBoard(boardId, fields, email));
+    }
+
     @PostMapping
     public ResponseEntity<BoardListDTO> createList(
             @Valid @RequestBody CreateBoardListRequest request,
@@ -54,4 +66,34 @@ public class BoardListController {
         boardListService.deleteList(id, email);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/{id}/cards/move")
+    public ResponseEntity<List<ListOrderDTO>> moveAllCards(
+            @PathVariable Long id,
+            @RequestParam Long targetListId,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(boardListService.moveAllCards(id, targetListId, email));
+    }
+
+    @PostMapping("/{id}/cards/sort")
+    public ResponseEntity<ListOrderDTO> sortCards(
+            @PathVariable Long id,
+            @RequestParam String field,
+            @RequestParam(defaultValue = "asc") String direction,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(boardListService.sortCards(id, field, direction, email));
+    }
+
+    @PostMapping("/{id}/cards/archive")
+    public ResponseEntity<ListOrderDTO> archiveAllCards(
+            @PathVariable Long id,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(boardListService.archiveAllCards(id, email));
+    }
 }
\ No newline at end of file
@@ -2,14 +2,18 @@ package com.taskflow.api.controller;
 
 import com.taskflow.api.dto.CardDTO;
 import com.taskflow.api.dto.CreateCardRequest;
+import com.taskflow.api.dto.UpcomingCardsDTO;
 import com.taskflow.api.service.CardService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/cards")
@@ -26,6 +30,28 @@ public class CardController {
         return ResponseEntity.ok(cardService.getCardsByList(listId, email));
     }
 
+    @GetMapping(value = "/list/{listId}", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getCardFieldsByList(
+            @PathVariable Long listId,
+            @RequestParam String fields,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(cardService.getCardFieldsByList(listId, fields, email));
+    }
+
+    @GetMapping("/upcoming")
+    public ResponseEntity<UpcomingCardsDTO> getUpcomingCards(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(cardService.getUpcomingCards(email, from, to, cursor, limit));
+    }
+
     @PostMapping
     public ResponseEntity<CardDTO> createCard(
             @Valid @RequestBody CreateCardRequest request,
@@ -2,6 +2,7 @@
 
 package com.taskflow.api.controller;
 
+import com.taskflow.api.dto.BulkChecklistUpdateRequest;
 import com.taskflow.api.dto.ChecklistItemDTO;
 import com.taskflow.api.dto.CreateChecklistItemRequest;
 import com.taskflow.api.service.ChecklistItemService;
@@ -37,6 +38,16 @@ public class ChecklistItemController {
         return ResponseEntity.ok(checklistItemService.createChecklistItem(request, email));
     }
 
+    @PutMapping("/card/{cardId}")
+    public ResponseEntity<List<ChecklistItemDTO>> bulkUpdateChecklist(
+            @PathVariable Long cardId,
+            @RequestBody BulkChecklistUpdateRequest request,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(checklistItemService.bulkUpdateChecklist(cardId, request, email));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ChecklistItemDTO> updateChecklistItem(
             @PathVariable Long id,
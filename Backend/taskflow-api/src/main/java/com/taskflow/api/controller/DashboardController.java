@@ -0,0 +1,25 @@
+package com.taskflow.api.controller;
+
+import com.taskflow.api.dto.DashboardDTO;
+import com.taskflow.api.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+    private final DashboardService dashboardService;
+
+    @GetMapping
+    public ResponseEntity<DashboardDTO> getDashboard(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(dashboardService.getDashboard(email, cursor, limit));
+    }
+}
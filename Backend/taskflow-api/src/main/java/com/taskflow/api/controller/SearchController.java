@@ -0,0 +1,27 @@
+package com.taskflow.api.controller;
+
+import com.taskflow.api.dto.SearchResultDTO;
+import com.taskflow.api.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+public class SearchController {
+    private final SearchService searchService;
+
+    @GetMapping
+    public ResponseEntity<List<SearchResultDTO>> search(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(searchService.searchCards(query, limit, email));
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskflow.api.controller;
+
+import com.taskflow.api.dto.WorkspaceDTO;
+import com.taskflow.api.dto.WorkspaceRequest;
+import com.taskflow.api.service.WorkspaceService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/workspaces")
+@RequiredArgsConstructor
+public class WorkspaceController {
+    private final WorkspaceService workspaceService;
+
+    @GetMapping
+    public ResponseEntity<List<WorkspaceDTO>> getWorkspaces(Authentication authentication) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(workspaceService.getWorkspaces(email));
+    }
+
+    @PostMapping
+    public ResponseEntity<WorkspaceDTO> createWorkspace(
+            @Valid @RequestBody WorkspaceRequest request,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(workspaceService.createWorkspace(request, email));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<WorkspaceDTO> renameWorkspace(
+            @PathVariable Long id,
+            @Valid @RequestBody WorkspaceRequest request,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(workspaceService.renameWorkspace(id, request, email));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteWorkspace(
+            @PathVariable Long id,
+            Authentication authentication
+    ) {
+        String email = authentication.getName();
+        workspaceService.deleteWorkspace(id, email);
+        return ResponseEntity.noContent().build();
+    }
+}
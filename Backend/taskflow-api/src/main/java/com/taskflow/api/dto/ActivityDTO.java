@@ -0,0 +1,23 @@
+package com.taskflow.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityDTO {
+    private Long id;
+    private Long boardId;
+    private String entityType;
+    private Long entityId;
+    private String action;
+    private String actorEmail;
+    private String details;
+    private LocalDateTime createdAt;
+}
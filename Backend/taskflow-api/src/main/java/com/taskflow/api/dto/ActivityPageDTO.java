@@ -0,0 +1,17 @@
+package com.taskflow.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityPageDTO {
+    private List<ActivityDTO> activities;
+    private String nextCursor;
+}
@@ -0,0 +1,31 @@
+package com.taskflow.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Either a full snapshot ({@code snapshot = true}, everything in {@code board}) or the delta since the
+ * client's sequence. Card membership and order of a changed list are authoritative in {@code listOrders};
+ * a changed checklist is sent whole, keyed by card id.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardChangesDTO {
+    private Long boardId;
+    private long seq;
+    private boolean snapshot;
+    private BoardDTO board;
+    private List<BoardListDTO> lists;
+    private List<ListOrderDTO> listOrders;
+    private List<CardDTO> cards;
+    private List<CommentDTO> comments;
+    private Map<Long, List<ChecklistItemDTO>> checklists;
+    private List<TombstoneDTO> deleted;
+}
@@ -1,6 +1,9 @@
 package com.taskflow.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.taskflow.api.model.Board;
+import com.taskflow.api.model.BoardMember;
+import com.taskflow.api.model.BoardRole;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,6 +13,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Data
 @Builder
 @NoArgsConstructor
@@ -18,7 +22,10 @@ public class BoardDTO {
     private Long id;
     private String title;
     private String backgroundColor;
+    private Long workspaceId;
     private String workspace;
+    // The caller's role; only set on the board listing.
+    private BoardRole role;
     private List<BoardListDTO> lists;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -28,18 +35,26 @@ public class BoardDTO {
                 .id(board.getId())
                 .title(board.getTitle())
                 .backgroundColor(board.getBackgroundColor())
-                .workspace(board.getWorkspace())
+                .workspaceId(board.getWorkspace() != null ? board.getWorkspace().getId() : null)
+                .workspace(board.getWorkspace() != null ? board.getWorkspace().getName() : null)
                 .createdAt(board.getCreatedAt())
                 .updatedAt(board.getUpdatedAt())
                 .build();
     }
 
+    public static BoardDTO fromMembership(BoardMember member) {
+        BoardDTO dto = fromBoard(member.getBoard());
+        dto.setRole(member.getRole());
+        return dto;
+    }
+
     public static BoardDTO fromBoardWithLists(Board board) {
         return BoardDTO.builder()
                 .id(board.getId())
                 .title(board.getTitle())
                 .backgroundColor(board.getBackgroundColor())
-                .workspace(board.getWorkspace())
+                .workspaceId(board.getWorkspace() != null ? board.getWorkspace().getId() : null)
+                .workspace(board.getWorkspace() != null ? board.getWorkspace().getName() : null)
                 .lists(board.getLists().stream()
                         .map(BoardListDTO::fromBoardList)
                         .collect(Collectors.toList()))
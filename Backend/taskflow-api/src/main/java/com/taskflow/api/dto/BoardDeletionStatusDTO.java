@@ -0,0 +1,26 @@
+package com.taskflow.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardDeletionStatusDTO {
+    private Long boardId;
+    private State state;
+    private long deletedCards;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    public enum State {
+        IN_PROGRESS,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskflow.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.taskflow.api.model.BoardList;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,6 +11,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,28 @@
+package com.taskflow.api.dto;
+
+public enum BoardListField implements ProjectableField {
+    ID("id", "bl.id"),
+    TITLE("title", "bl.title"),
+    BOARD_ID("boardId", "bl.board.id"),
+    POSITION("position", "bl.position"),
+    CREATED_AT("createdAt", "bl.createdAt"),
+    UPDATED_AT("updatedAt", "bl.updatedAt");
+
+    private final String param;
+    private final String path;
+
+    BoardListField(String param, String path) {
+        this.param = param;
+        this.path = path;
+    }
+
+    @Override
+    public String getParam() {
+        return param;
+    }
+
+    @Override
+    public String getPath() {
+        return path;
+    }
+}
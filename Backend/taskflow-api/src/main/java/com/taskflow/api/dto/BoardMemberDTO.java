@@ -0,0 +1,30 @@
+package com.taskflow.api.dto;
+
+import com.taskflow.api.model.BoardMember;
+import com.taskflow.api.model.BoardRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardMemberDTO {
+    private UserDTO user;
+    private BoardRole role;
+    private boolean owner;
+    private LocalDateTime addedAt;
+
+    public static BoardMemberDTO fromBoardMember(BoardMember member, Long ownerId) {
+        return BoardMemberDTO.builder()
+                .user(UserDTO.fromUser(member.getUser()))
+                .role(member.getRole())
+                .owner(member.getId().getUserId().equals(ownerId))
+                .addedAt(member.getAddedAt())
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskflow.api.dto;
+
+import com.taskflow.api.model.BoardRole;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardMemberRequest {
+    // Identifies the user to add; ignored when changing an existing member's role.
+    private String email;
+
+    @NotNull(message = "Role is required")
+    private BoardRole role;
+}
@@ -0,0 +1,24 @@
+package com.taskflow.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pushed to {@code /topic/boards/{boardId}} after a change commits. It only says what changed; clients
+ * fetch the data with {@code GET /api/v1/boards/{id}/changes?since=}, and a gap in {@code seq} means an
+ * update was missed and the same call catches up. Due-date reminders ({@code action} {@code DUE_SOON}) change
+ * nothing and repeat the current {@code seq}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardUpdateDTO {
+    private Long boardId;
+    private long seq;
+    private String entityType;
+    private Long entityId;
+    private String action;
+}
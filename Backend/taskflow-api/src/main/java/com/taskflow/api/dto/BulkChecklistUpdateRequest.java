@@ -0,0 +1,19 @@
+package com.taskflow.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkChecklistUpdateRequest {
+    // Every item id of the card in the desired order; omit to keep the current order.
+    private List<Long> order;
+
+    // Completion flags by item id; items not mentioned keep their state.
+    private Map<Long, Boolean> completed;
+}
@@ -2,6 +2,7 @@
 
 package com.taskflow.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.taskflow.api.model.Card;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,6 +13,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+// Full boards carry thousands of cards; unset fields (comments and checklist items on list cards, empty
+// descriptions and due dates) are left out.
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Data
 @Builder
 @NoArgsConstructor
@@ -21,8 +25,12 @@ public class CardDTO {
     private String title;
     private String description;
     private Long listId;
+    private Long boardId;
     private Integer position;
     private LocalDateTime dueDate;
+    private int checklistTotal;
+    private int checklistCompleted;
+    private int commentCount;
     private List<CommentDTO> comments;
     private List<ChecklistItemDTO> checklistItems;
     private LocalDateTime createdAt;
@@ -34,8 +42,12 @@ public class CardDTO {
                 .title(card.getTitle())
                 .description(card.getDescription())
                 .listId(card.getList().getId())
+                .boardId(card.getList().getBoard().getId())
                 .position(card.getPosition())
                 .dueDate(card.getDueDate())
+                .checklistTotal(card.getChecklistTotal())
+                .checklistCompleted(card.getChecklistCompleted())
+                .commentCount(card.getCommentCount())
                 .createdAt(card.getCreatedAt())
                 .updatedAt(card.getUpdatedAt())
                 .build();
@@ -47,8 +59,12 @@ public class CardDTO {
                 .title(card.getTitle())
                 .description(card.getDescription())
                 .listId(card.getList().getId())
+                .boardId(card.getList().getBoard().getId())
                 .position(card.getPosition())
                 .dueDate(card.getDueDate())
+                .checklistTotal(card.getChecklistTotal())
+                .checklistCompleted(card.getChecklistCompleted())
+                .commentCount(card.getCommentCount())
                 .comments(card.getComments().stream()
                         .map(CommentDTO::fromComment)
                         .collect(Collectors.toList()))
@@ -0,0 +1,34 @@
+package com.taskflow.api.dto;
+
+public enum CardField implements ProjectableField {
+    ID("id", "c.id"),
+    TITLE("title", "c.title"),
+    DESCRIPTION("description", "c.description"),
+    LIST_ID("listId", "c.list.id"),
+    BOARD_ID("boardId", "c.list.board.id"),
+    POSITION("position", "c.position"),
+    DUE_DATE("dueDate", "c.dueDate"),
+    CHECKLIST_TOTAL("checklistTotal", "c.checklistTotal"),
+    CHECKLIST_COMPLETED("checklistCompleted", "c.checklistCompleted"),
+    COMMENT_COUNT("commentCount", "c.commentCount"),
+    CREATED_AT("createdAt", "c.createdAt"),
+    UPDATED_AT("updatedAt", "c.updatedAt");
+
+    private final String param;
+    private final String path;
+
+    CardField(String param, String path) {
+        this.param = param;
+        this.path = path;
+    }
+
+    @Override
+    public String getParam() {
+        return param;
+    }
+
+    @Override
+    public String getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskflow.api.dto;
+
+import java.util.Arrays;
+
+public enum CardSortField {
+    TITLE("title", "lower(title)"),
+    DUE_DATE("dueDate", "due_date"),
+    CREATED_AT("createdAt", "created_at");
+
+    private final String param;
+    private final String sortExpression;
+
+    CardSortField(String param, String sortExpression) {
+        this.param = param;
+        this.sortExpression = sortExpression;
+    }
+
+    public String getSortExpression() {
+        return sortExpression;
+    }
+
+    public static CardSortField fromParam(String param) {
+        return Arrays.stream(values())
+                .filter(field -> field.param.equalsIgnoreCase(param))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Unsupported sort field: " + param));
+    }
+}
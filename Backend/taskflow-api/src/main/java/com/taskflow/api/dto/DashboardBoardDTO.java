@@ -0,0 +1,34 @@
+package com.taskflow.api.dto;
+
+import com.taskflow.api.model.BoardRole;
+import com.taskflow.api.repository.DashboardRow;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardBoardDTO {
+    private Long id;
+    private String title;
+    private String backgroundColor;
+    private BoardRole role;
+    private long listCount;
+    private long cardCount;
+    private long overdueCount;
+
+    public static DashboardBoardDTO fromRow(DashboardRow row) {
+        return DashboardBoardDTO.builder()
+                .id(row.boardId())
+                .title(row.title())
+                .backgroundColor(row.backgroundColor())
+                .role(BoardRole.valueOf(row.role()))
+                .listCount(row.listCount())
+                .cardCount(row.cardCount())
+                .overdueCount(row.overdueCount())
+                .build();
+    }
+}
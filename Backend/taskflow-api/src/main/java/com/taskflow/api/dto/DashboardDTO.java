@@ -0,0 +1,23 @@
+package com.taskflow.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A page of the user's boards grouped by workspace. A workspace may continue on the next page under the
+ * same id. Counts are as of {@code statsRefreshedAt}; boards created since then show zero counts.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDTO {
+    private List<DashboardWorkspaceDTO> workspaces;
+    private String nextCursor;
+    private LocalDateTime statsRefreshedAt;
+}
@@ -0,0 +1,18 @@
+package com.taskflow.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardWorkspaceDTO {
+    private Long id;
+    private String name;
+    private List<DashboardBoardDTO> boards;
+}
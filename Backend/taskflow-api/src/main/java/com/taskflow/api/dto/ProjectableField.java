@@ -0,0 +1,33 @@
+package com.taskflow.api.dto;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A response field that can be selected with {@code fields=} and maps to a JPQL path, so only the
+ * requested columns are read.
+ */
+public interface ProjectableField {
+    String getParam();
+
+    String getPath();
+
+    /**
+     * Parses a comma-separated field list; the id is always included so results stay addressable.
+     */
+    static <F extends Enum<F> & ProjectableField> Set<F> parse(String fields, Class<F> type, F id) {
+        Set<F> selected = EnumSet.of(id);
+        for (String name : fields.split(",")) {
+            String param = name.trim();
+            if (param.isEmpty()) {
+                continue;
+            }
+            selected.add(Arrays.stream(type.getEnumConstants())
+                    .filter(field -> field.getParam().equalsIgnoreCase(param))
+                    .findFirst()
+                    .orElseThrow(() -> new RuntimeException("Unsupported field: " + param)));
+        }
+        return selected;
+    }
+}
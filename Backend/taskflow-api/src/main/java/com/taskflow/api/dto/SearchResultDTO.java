@@ -0,0 +1,50 @@
+package com.taskflow.api.dto;
+
+import com.taskflow.api.repository.CardSearchHit;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.web.util.HtmlUtils;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultDTO {
+    private Long cardId;
+    private String title;
+    private Long listId;
+    private String listTitle;
+    private Long boardId;
+    private String boardTitle;
+    private String matchedIn;
+    private double rank;
+    private String snippet;
+
+    public static SearchResultDTO fromHit(CardSearchHit hit) {
+        return SearchResultDTO.builder()
+                .cardId(hit.getCardId())
+                .title(hit.getTitle())
+                .listId(hit.getListId())
+                .listTitle(hit.getListTitle())
+                .boardId(hit.getBoardId())
+                .boardTitle(hit.getBoardTitle())
+                .matchedIn(hit.getMatchedIn())
+                .rank(hit.getRank())
+                .snippet(highlight(hit.getSnippet()))
+                .build();
+    }
+
+    /**
+     * Escapes the card text and marks the matches, so the snippet is safe to render as HTML.
+     */
+    static String highlight(String snippet) {
+        if (snippet == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(snippet)
+                .replace(String.valueOf(CardSearchHit.MATCH_START), "<mark>")
+                .replace(String.valueOf(CardSearchHit.MATCH_END), "</mark>");
+    }
+}
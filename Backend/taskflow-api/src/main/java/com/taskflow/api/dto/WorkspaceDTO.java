@@ -0,0 +1,29 @@
+package com.taskflow.api.dto;
+
+import com.taskflow.api.model.Workspace;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkspaceDTO {
+    private Long id;
+    private String name;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static WorkspaceDTO fromWorkspace(Workspace workspace) {
+        return WorkspaceDTO.builder()
+                .id(workspace.getId())
+                .name(workspace.getName())
+                .createdAt(workspace.getCreatedAt())
+                .updatedAt(workspace.getUpdatedAt())
+                .build();
+    }
+}
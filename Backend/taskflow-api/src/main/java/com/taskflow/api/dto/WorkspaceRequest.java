@@ -0,0 +1,14 @@
+package com.taskflow.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkspaceRequest {
+    @NotBlank(message = "Workspace name is required")
+    private String name;
+}
@@ -0,0 +1,59 @@
+package com.taskflow.api.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Published by the service layer for every mutation inside a board.
+ */
+@Value
+@Builder
+public class BoardChangeEvent {
+    Long boardId;
+    EntityType entityType;
+    Long entityId;
+    Action action;
+    String actorEmail;
+    String details;
+    /** Owning card of a comment or checklist item. */
+    Long cardId;
+    /** Lists whose set or order of cards changed as a side effect. */
+    @Builder.Default
+    Set<Long> reorderedListIds = Set.of();
+    @Builder.Default
+    LocalDateTime occurredAt = LocalDateTime.now();
+
+    public static BoardChangeEvent of(Long boardId, EntityType entityType, Long entityId, Action action,
+                                      String actorEmail, String details) {
+        return BoardChangeEvent.builder()
+                .boardId(boardId)
+                .entityType(entityType)
+                .entityId(entityId)
+                .action(action)
+                .actorEmail(actorEmail)
+                .details(details)
+                .build();
+    }
+
+    public enum EntityType {
+        BOARD,
+        LIST,
+        CARD,
+        COMMENT,
+        CHECKLIST_ITEM
+    }
+
+    public enum Action {
+        CREATED,
+        UPDATED,
+        MOVED,
+        DELETED,
+        CARDS_MOVED,
+        CARDS_SORTED,
+        CARDS_ARCHIVED,
+        CHECKLIST_UPDATED
+    }
+}
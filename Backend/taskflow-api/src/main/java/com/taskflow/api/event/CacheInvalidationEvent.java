@@ -0,0 +1,31 @@
+package com.taskflow.api.event;
+
+import lombok.Value;
+
+/**
+ * Tells in-process caches on this node that an entity changed, here or on another node. Delivered after the
+ * change has committed and coalesced, so a burst of writes may arrive as one event per entity.
+ */
+@Value
+public class CacheInvalidationEvent {
+    /** Null when every cache must be dropped, e.g. after missed notifications. */
+    EntityType entityType;
+    /** Null to drop every cached entity of the type; for BOARD_MEMBER, the board whose members changed. */
+    Long entityId;
+    /** For BOARD_MEMBER, the user whose membership changed; null for every other type. */
+    Long userId;
+    /** Commit time in epoch millis; later events for the same entity carry a higher version. */
+    long version;
+
+    public static CacheInvalidationEvent flushAll() {
+        return new CacheInvalidationEvent(null, null, null, System.currentTimeMillis());
+    }
+
+    public boolean isFlushAll() {
+        return entityType == null;
+    }
+
+    public enum EntityType {
+        USER, BOARD, LIST, BOARD_MEMBER, WORKSPACE
+    }
+}
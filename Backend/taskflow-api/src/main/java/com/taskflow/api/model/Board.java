@@ -6,6 +6,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -13,6 +16,8 @@ import java.util.List;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "boards")
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -31,7 +36,12 @@ public class Board {
     @JoinColumn(name = "user_id", nullable = false)
     private User owner;
 
-    private String workspace;
+    @ManyToOne
+    @JoinColumn(name = "workspace_id")
+    private Workspace workspace;
+
+    @Column(name = "pending_deletion", nullable = false, columnDefinition = "boolean default false")
+    private boolean pendingDeletion;
 
     @Column(name = "created_at")
     private LocalDateTime createdAt;
@@ -41,6 +51,7 @@ public class Board {
 
 
     @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true)
+    @SQLRestriction("archived = false")
     private List<BoardList> lists = new ArrayList<>();
 
     @PrePersist
@@ -6,6 +6,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -13,6 +16,8 @@ import java.util.List;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "board_lists")
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -31,7 +36,14 @@ public class BoardList {
 
     private Integer position;
 
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean archived;
+
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
     @OneToMany(mappedBy = "list", cascade = CascadeType.ALL, orphanRemoval = true)
+    @SQLRestriction("archived = false")
     private List<Card> cards = new ArrayList<>();
 
     @Column(name = "created_at")
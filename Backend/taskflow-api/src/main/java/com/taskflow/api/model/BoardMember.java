@@ -0,0 +1,53 @@
+package com.taskflow.api.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.time.LocalDateTime;
+
+/**
+ * A user's access to a board. The owner is a member too, with {@link BoardRole#ADMIN}, so checking access
+ * is one lookup by primary key whatever the board's size; the (user_id, board_id) index serves the other
+ * direction, a user's boards.
+ */
+@Data
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "board_members")
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "board_members", indexes = {
+        @Index(name = "idx_board_members_user_board", columnList = "user_id, board_id")
+})
+public class BoardMember {
+    @EmbeddedId
+    private BoardMemberId id;
+
+    @MapsId("boardId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id")
+    private Board board;
+
+    @MapsId("userId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private BoardRole role;
+
+    @Column(name = "added_at", nullable = false)
+    private LocalDateTime addedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        addedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,21 @@
+package com.taskflow.api.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardMemberId implements Serializable {
+    @Column(name = "board_id")
+    private Long boardId;
+
+    @Column(name = "user_id")
+    private Long userId;
+}
@@ -0,0 +1,14 @@
+package com.taskflow.api.model;
+
+/**
+ * A member's role on a board, from least to most privileged; each role includes the ones before it.
+ */
+public enum BoardRole {
+    VIEWER,
+    EDITOR,
+    ADMIN;
+
+    public boolean includes(BoardRole required) {
+        return compareTo(required) >= 0;
+    }
+}
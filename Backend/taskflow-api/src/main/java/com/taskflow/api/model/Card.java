@@ -37,6 +37,29 @@ public class Card {
 
     private LocalDateTime dueDate;
 
+    @Column(name = "reminder_sent", nullable = false, columnDefinition = "boolean default false")
+    private boolean reminderSent;
+
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean archived;
+
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
+    // Maintained only by the delta updates in CardRepository; never written from the entity, so a stale
+    // copy in the persistence context cannot overwrite a concurrent increment.
+    @Column(name = "checklist_total", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "integer default 0")
+    private int checklistTotal;
+
+    @Column(name = "checklist_completed", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "integer default 0")
+    private int checklistCompleted;
+
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "integer default 0")
+    private int commentCount;
+
     @OneToMany(mappedBy = "card", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments = new ArrayList<>();
 
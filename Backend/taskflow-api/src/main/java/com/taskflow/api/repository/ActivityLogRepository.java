@@ -0,0 +1,106 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.dto.ActivityDTO;
+import com.taskflow.api.event.BoardChangeEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * JDBC access to the partitioned {@code activity_log} table, which is not mapped as an entity.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ActivityLogRepository {
+    private static final String PARTITION_PREFIX = "activity_log_";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+
+    private static final RowMapper<ActivityDTO> ROW_MAPPER = (rs, rowNum) -> ActivityDTO.builder()
+            .id(rs.getLong("id"))
+            .boardId(rs.getLong("board_id"))
+            .entityType(rs.getString("entity_type"))
+            .entityId(rs.getLong("entity_id"))
+            .action(rs.getString("action"))
+            .actorEmail(rs.getString("actor_email"))
+            .details(rs.getString("details"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertBatch(List<BoardChangeEvent> events) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO activity_log (board_id, entity_type, entity_id, action, actor_email, details, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                events,
+                events.size(),
+                (statement, event) -> {
+                    statement.setLong(1, event.getBoardId());
+                    statement.setString(2, event.getEntityType().name());
+                    statement.setLong(3, event.getEntityId());
+                    statement.setString(4, event.getAction().name());
+                    statement.setString(5, event.getActorEmail());
+                    statement.setString(6, event.getDetails());
+                    statement.setTimestamp(7, Timestamp.valueOf(event.getOccurredAt()));
+                });
+    }
+
+    /**
+     * Newest-first page of a board's activity within one monthly partition, strictly before the given position.
+     */
+    public List<ActivityDTO> findPage(Long boardId, YearMonth month, LocalDateTime beforeCreatedAt, long beforeId,
+                                      int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, board_id, entity_type, entity_id, action, actor_email, details, created_at " +
+                        "FROM activity_log " +
+                        "WHERE board_id = ? AND created_at >= ? AND created_at < ? AND (created_at, id) < (?, ?) " +
+                        "ORDER BY created_at DESC, id DESC LIMIT ?",
+                ROW_MAPPER,
+                boardId,
+                Timestamp.valueOf(month.atDay(1).atStartOfDay()),
+                Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()),
+                Timestamp.valueOf(beforeCreatedAt),
+                beforeId,
+                limit);
+    }
+
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF activity_log FOR VALUES FROM ('%s') TO ('%s')",
+                partitionName(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    /**
+     * Drops whole monthly partitions older than {@code oldestKept}; cheaper than deleting rows.
+     */
+    public int dropPartitionsBefore(YearMonth oldestKept) {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT child.relname FROM pg_inherits i " +
+                        "JOIN pg_class parent ON parent.oid = i.inhparent " +
+                        "JOIN pg_class child ON child.oid = i.inhrelid " +
+                        "WHERE parent.relname = 'activity_log'",
+                String.class);
+
+        String oldestKeptName = partitionName(oldestKept);
+        int dropped = 0;
+        for (String partition : partitions) {
+            // Names sort chronologically because the suffix is zero-padded.
+            if (partition.startsWith(PARTITION_PREFIX) && partition.compareTo(oldestKeptName) < 0) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    private String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+}
@@ -0,0 +1,4 @@
+package com.taskflow.api.repository;
+
+public record BoardChange(String entityType, long entityId, long seq, boolean deleted) {
+}
@@ -0,0 +1,24 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.dto.BoardDeletionStatusDTO;
+import com.taskflow.api.dto.BoardDeletionStatusDTO.State;
+
+import java.time.LocalDateTime;
+
+/**
+ * A row of {@code board_deletions}; {@code ownerEmail} is null for deletions started before the table
+ * existed.
+ */
+public record BoardDeletionRecord(Long boardId, String ownerEmail, State state, long deletedCards,
+                                  LocalDateTime startedAt, LocalDateTime completedAt) {
+
+    public BoardDeletionStatusDTO toDTO() {
+        return BoardDeletionStatusDTO.builder()
+                .boardId(boardId)
+                .state(state)
+                .deletedCards(deletedCards)
+                .startedAt(startedAt)
+                .completedAt(completedAt)
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.dto.BoardDeletionStatusDTO.State;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC access to the table created by {@code 014_board_deletions.sql}. Progress is written in its own
+ * statements, so other nodes see it while the purge is still running.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardDeletionRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Records a new deletion, replacing the status of an earlier one for the same board.
+     */
+    public void start(Long boardId, String ownerEmail) {
+        jdbcTemplate.update(
+                "INSERT INTO board_deletions (board_id, owner_email, state, deleted_cards, started_at, updated_at) " +
+                        "VALUES (?, ?, ?, 0, now(), now()) " +
+                        "ON CONFLICT (board_id) DO UPDATE SET owner_email = EXCLUDED.owner_email, " +
+                        "state = EXCLUDED.state, deleted_cards = 0, started_at = EXCLUDED.started_at, " +
+                        "completed_at = NULL, updated_at = EXCLUDED.updated_at",
+                boardId, ownerEmail, State.IN_PROGRESS.name());
+    }
+
+    /**
+     * Takes over a deletion that failed, or whose purge has made no progress since {@code staleBefore}, e.g.
+     * because its node stopped. Deletions without a row are recorded with an unknown owner. Returns false if
+     * another purge is still running it.
+     */
+    public boolean resume(Long boardId, LocalDateTime staleBefore) {
+        return jdbcTemplate.update(
+                "INSERT INTO board_deletions (board_id, state, deleted_cards, started_at, updated_at) " +
+                        "VALUES (?, ?, 0, now(), now()) " +
+                        "ON CONFLICT (board_id) DO UPDATE SET state = EXCLUDED.state, completed_at = NULL, " +
+                        "updated_at = EXCLUDED.updated_at " +
+                        "WHERE board_deletions.state <> EXCLUDED.state OR board_deletions.updated_at < ?",
+                boardId, State.IN_PROGRESS.name(), Timestamp.valueOf(staleBefore)) == 1;
+    }
+
+    public void addDeletedCards(Long boardId, int count) {
+        jdbcTemplate.update(
+                "UPDATE board_deletions SET deleted_cards = deleted_cards + ?, updated_at = now() WHERE board_id = ?",
+                count, boardId);
+    }
+
+    public void finish(Long boardId, State state) {
+        jdbcTemplate.update(
+                "UPDATE board_deletions SET state = ?, completed_at = now(), updated_at = now() WHERE board_id = ?",
+                state.name(), boardId);
+    }
+
+    public Optional<BoardDeletionRecord> find(Long boardId) {
+        List<BoardDeletionRecord> records = jdbcTemplate.query(
+                "SELECT board_id, owner_email, state, deleted_cards, started_at, completed_at " +
+                        "FROM board_deletions WHERE board_id = ?",
+                (rs, rowNum) -> new BoardDeletionRecord(
+                        rs.getLong("board_id"),
+                        rs.getString("owner_email"),
+                        State.valueOf(rs.getString("state")),
+                        rs.getLong("deleted_cards"),
+                        rs.getTimestamp("started_at").toLocalDateTime(),
+                        rs.getTimestamp("completed_at") != null
+                                ? rs.getTimestamp("completed_at").toLocalDateTime() : null),
+                boardId);
+        return records.stream().findFirst();
+    }
+
+    /**
+     * Removes the status of completed deletions; failed ones stay until they are retried.
+     */
+    public int deleteCompletedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM board_deletions WHERE state = ? AND completed_at < ?",
+                State.COMPLETED.name(), Timestamp.valueOf(cutoff));
+    }
+}
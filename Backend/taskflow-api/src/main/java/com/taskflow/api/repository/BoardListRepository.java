@@ -2,15 +2,48 @@ package com.taskflow.api.repository;
 
 import com.taskflow.api.model.Board;
 import com.taskflow.api.model.BoardList;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface BoardListRepository extends JpaRepository<BoardList, Long> {
+public interface BoardListRepository extends JpaRepository<BoardList, Long>, BoardListRepositoryCustom {
 
-    @Query("SELECT bl FROM BoardList bl WHERE bl.board = ?1 ORDER BY bl.position ASC")
+    @Query("SELECT bl FROM BoardList bl WHERE bl.board = ?1 AND bl.archived = false ORDER BY bl.position ASC")
     List<BoardList> findByBoardOrderByPositionAsc(Board board);
-}
\ No newline at end of file
+
+    @Query("SELECT bl FROM BoardList bl WHERE bl.board.id IN :boardIds AND bl.archived = false " +
+            "ORDER BY bl.board.id, bl.position")
+    List<BoardList> findActiveByBoardIdIn(@Param("boardIds") Collection<Long> boardIds, Pageable pageable);
+
+    @Query("SELECT bl FROM BoardList bl WHERE bl.id = ?1 AND bl.archived = false")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<BoardList> findActiveById(Long id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE BoardList bl SET bl.position = bl.position - 1 " +
+            "WHERE bl.board = :board AND bl.archived = false AND bl.position > :position")
+    int shiftActivePositionsAfter(@Param("board") Board board, @Param("position") Integer position);
+
+    @Query("SELECT bl.id FROM BoardList bl WHERE bl.archived = true AND bl.archivedAt < :cutoff")
+    List<Long> findArchivedIdsBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM BoardList bl WHERE bl.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM BoardList bl WHERE bl.board.id = :boardId")
+    int deleteByBoardId(@Param("boardId") Long boardId);
+}
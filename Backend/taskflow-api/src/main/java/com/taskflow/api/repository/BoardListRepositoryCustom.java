@@ -0,0 +1,12 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.dto.BoardListField;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface BoardListRepositoryCustom {
+
+    List<Map<String, Object>> findActiveFieldsByBoardId(Long boardId, Set<BoardListField> fields);
+}
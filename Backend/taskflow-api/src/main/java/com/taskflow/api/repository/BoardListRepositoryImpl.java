@@ -0,0 +1,26 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.dto.BoardListField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class BoardListRepositoryImpl implements BoardListRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findActiveFieldsByBoardId(Long boardId, Set<BoardListField> fields) {
+        return FieldProjection.select(entityManager, fields, List.of(),
+                        "FROM BoardList bl WHERE bl.board.id = :boardId AND bl.archived = false ORDER BY bl.position",
+                        Map.of("boardId", boardId))
+                .stream()
+                .map(row -> FieldProjection.toMap(row, fields))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,31 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.model.BoardMember;
+import com.taskflow.api.model.BoardMemberId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BoardMemberRepository extends JpaRepository<BoardMember, BoardMemberId> {
+
+    @Query("SELECT m FROM BoardMember m JOIN FETCH m.board b JOIN FETCH b.workspace " +
+            "WHERE m.id.userId = :userId AND b.pendingDeletion = false ORDER BY b.createdAt DESC")
+    List<BoardMember> findActiveByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT m FROM BoardMember m JOIN FETCH m.user WHERE m.id.boardId = :boardId ORDER BY m.addedAt ASC")
+    List<BoardMember> findByBoardIdWithUser(@Param("boardId") Long boardId);
+
+    @Query("SELECT m.id.boardId AS boardId, u.email AS email FROM BoardMember m JOIN m.user u " +
+            "WHERE m.id.boardId IN :boardIds")
+    List<ReminderRecipient> findReminderRecipients(@Param("boardIds") Collection<Long> boardIds);
+
+    @Modifying
+    @Query("DELETE FROM BoardMember m WHERE m.id.boardId = :boardId")
+    int deleteByBoardId(@Param("boardId") Long boardId);
+}
@@ -4,12 +4,35 @@ package com.taskflow.api.repository;
 import com.taskflow.api.model.Board;
 import com.taskflow.api.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface BoardRepository extends JpaRepository<Board, Long> {
+public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
     List<Board> findByOwner(User owner);
-    List<Board> findByOwnerOrderByCreatedAtDesc(User owner);
-}
\ No newline at end of file
+    List<Board> findByOwnerAndPendingDeletionFalseOrderByCreatedAtDesc(User owner);
+
+    @Query("SELECT b FROM Board b WHERE b.id = ?1 AND b.pendingDeletion = false")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<Board> findActiveById(Long id);
+
+    @Query("SELECT b.id FROM Board b WHERE b.pendingDeletion = true AND b.updatedAt < :before")
+    List<Long> findPendingDeletionIdsUpdatedBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("UPDATE Board b SET b.pendingDeletion = true, b.updatedAt = :now WHERE b.id = :id")
+    int markPendingDeletion(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM Board b WHERE b.id = :id")
+    int deleteBoardRow(@Param("id") Long id);
+}
@@ -0,0 +1,6 @@
+package com.taskflow.api.repository;
+
+public interface BoardRepositoryCustom {
+
+    int copyBoardContents(Long sourceBoardId, Long targetBoardId);
+}
@@ -0,0 +1,52 @@
+package com.taskflow.api.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class BoardRepositoryImpl implements BoardRepositoryCustom {
+
+    // New ids are drawn from the identity sequences up front so each level can be joined to its
+    // copy. The data-modifying CTEs run as one statement (each executes whether or not it is
+    // referenced) and foreign keys are checked at its end.
+    private static final String COPY_BOARD_CONTENTS_SQL = """
+            WITH list_map AS MATERIALIZED (
+                SELECT id AS old_id, nextval(pg_get_serial_sequence('board_lists', 'id')) AS new_id
+                FROM board_lists
+                WHERE board_id = :sourceBoardId AND archived = false
+            ), new_lists AS (
+                INSERT INTO board_lists (id, title, board_id, position, archived, created_at, updated_at)
+                SELECT m.new_id, l.title, :targetBoardId, l.position, false, now(), now()
+                FROM board_lists l JOIN list_map m ON m.old_id = l.id
+                RETURNING id
+            ), card_map AS MATERIALIZED (
+                SELECT c.id AS old_id, nextval(pg_get_serial_sequence('cards', 'id')) AS new_id, m.new_id AS new_list_id
+                FROM cards c JOIN list_map m ON m.old_id = c.list_id
+                WHERE c.archived = false
+            ), new_cards AS (
+                INSERT INTO cards (id, title, description, list_id, position, due_date, archived,
+                                   checklist_total, checklist_completed, created_at, updated_at)
+                SELECT m.new_id, c.title, c.description, m.new_list_id, c.position, c.due_date, false,
+                       c.checklist_total, c.checklist_completed, now(), now()
+                FROM cards c JOIN card_map m ON m.old_id = c.id
+                RETURNING id
+            ), new_items AS (
+                INSERT INTO checklist_items (content, completed, position, card_id, created_at, updated_at)
+                SELECT i.content, i.completed, i.position, m.new_id, now(), now()
+                FROM checklist_items i JOIN card_map m ON m.old_id = i.card_id
+                RETURNING id
+            )
+            SELECT count(*) FROM new_cards
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int copyBoardContents(Long sourceBoardId, Long targetBoardId) {
+        Number copiedCards = (Number) entityManager.createNativeQuery(COPY_BOARD_CONTENTS_SQL)
+                .setParameter("sourceBoardId", sourceBoardId)
+                .setParameter("targetBoardId", targetBoardId)
+                .getSingleResult();
+        return copiedCards.intValue();
+    }
+}
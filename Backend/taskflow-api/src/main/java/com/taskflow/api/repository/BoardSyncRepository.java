@@ -0,0 +1,81 @@
+package com.taskflow.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC access to the sync tables created by {@code 007_board_sync.sql}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardSyncRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Allocates the board's next sequence number. The row lock is held until the caller's transaction ends,
+     * so sequence numbers on a board become visible in the order they were allocated.
+     */
+    public long nextSeq(Long boardId) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO board_sync_state (board_id, last_seq) VALUES (?, 1) " +
+                        "ON CONFLICT (board_id) DO UPDATE SET last_seq = board_sync_state.last_seq + 1 " +
+                        "RETURNING last_seq",
+                Long.class, boardId);
+    }
+
+    public void upsertChanges(Long boardId, List<BoardChange> changes) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO board_changes (board_id, entity_type, entity_id, seq, deleted, changed_at) " +
+                        "VALUES (?, ?, ?, ?, ?, now()) " +
+                        "ON CONFLICT (board_id, entity_type, entity_id) DO UPDATE " +
+                        "SET seq = EXCLUDED.seq, deleted = EXCLUDED.deleted, changed_at = EXCLUDED.changed_at",
+                changes,
+                changes.size(),
+                (statement, change) -> {
+                    statement.setLong(1, boardId);
+                    statement.setString(2, change.entityType());
+                    statement.setLong(3, change.entityId());
+                    statement.setLong(4, change.seq());
+                    statement.setBoolean(5, change.deleted());
+                });
+    }
+
+    public BoardSyncState findState(Long boardId) {
+        List<BoardSyncState> states = jdbcTemplate.query(
+                "SELECT last_seq, compacted_seq FROM board_sync_state WHERE board_id = ?",
+                (rs, rowNum) -> new BoardSyncState(rs.getLong("last_seq"), rs.getLong("compacted_seq")),
+                boardId);
+        return states.isEmpty() ? BoardSyncState.EMPTY : states.get(0);
+    }
+
+    /**
+     * Changes after {@code since}, oldest first; fetches at most {@code limit} rows.
+     */
+    public List<BoardChange> findChangesSince(Long boardId, long since, int limit) {
+        return jdbcTemplate.query(
+                "SELECT entity_type, entity_id, seq, deleted FROM board_changes " +
+                        "WHERE board_id = ? AND seq > ? ORDER BY seq LIMIT ?",
+                (rs, rowNum) -> new BoardChange(rs.getString("entity_type"), rs.getLong("entity_id"),
+                        rs.getLong("seq"), rs.getBoolean("deleted")),
+                boardId, since, limit);
+    }
+
+    /**
+     * Purges tombstones older than {@code cutoff} and raises each affected board's compaction watermark.
+     */
+    public int compactTombstonesBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update(
+                "WITH purged AS (" +
+                        "  DELETE FROM board_changes WHERE deleted AND changed_at < ? RETURNING board_id, seq" +
+                        ") " +
+                        "UPDATE board_sync_state s SET compacted_seq = GREATEST(s.compacted_seq, p.max_seq) " +
+                        "FROM (SELECT board_id, max(seq) AS max_seq FROM purged GROUP BY board_id) p " +
+                        "WHERE s.board_id = p.board_id",
+                Timestamp.valueOf(cutoff));
+    }
+}
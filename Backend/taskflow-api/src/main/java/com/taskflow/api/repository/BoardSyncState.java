@@ -0,0 +1,5 @@
+package com.taskflow.api.repository;
+
+public record BoardSyncState(long lastSeq, long compactedSeq) {
+    public static final BoardSyncState EMPTY = new BoardSyncState(0, 0);
+}
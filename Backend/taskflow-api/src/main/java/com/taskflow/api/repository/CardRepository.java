@@ -2,15 +2,170 @@ package com.taskflow.api.repository;
 
 import com.taskflow.api.model.BoardList;
 import com.taskflow.api.model.Card;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface CardRepository extends JpaRepository<Card, Long> {
+public interface CardRepository extends JpaRepository<Card, Long>, CardRepositoryCustom {
 
-    @Query("SELECT c FROM Card c WHERE c.list = ?1 ORDER BY c.position ASC")
+    @Query("SELECT c FROM Card c WHERE c.list = ?1 AND c.archived = false ORDER BY c.position ASC")
     List<Card> findByListOrderByPositionAsc(BoardList list);
-}
\ No newline at end of file
+
+    @Query("SELECT c FROM Card c WHERE c.id = ?1 AND c.archived = false AND c.list.archived = false")
+    Optional<Card> findActiveById(Long id);
+
+    @Query("SELECT c FROM Card c JOIN FETCH c.list WHERE c.list.id IN :listIds AND c.archived = false " +
+            "ORDER BY c.list.id, c.position")
+    List<Card> findActiveByListIdIn(@Param("listIds") Collection<Long> listIds, Pageable pageable);
+
+    @Query("SELECT COUNT(c) FROM Card c WHERE c.list = ?1 AND c.archived = false")
+    long countActiveByList(BoardList list);
+
+    @Query("SELECT c.id FROM Card c WHERE c.list.id = ?1 AND c.archived = false ORDER BY c.position ASC")
+    List<Long> findActiveIdsByListIdOrderByPosition(Long listId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Card c SET c.list = :target, c.position = c.position + :offset, c.updatedAt = :now " +
+            "WHERE c.list = :source AND c.archived = false")
+    int moveActiveCards(@Param("source") BoardList source,
+                        @Param("target") BoardList target,
+                        @Param("offset") int offset,
+                        @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Card c SET c.archived = true, c.archivedAt = :now, c.updatedAt = :now " +
+            "WHERE c.list = :list AND c.archived = false")
+    int archiveActiveCards(@Param("list") BoardList list, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Card c SET c.position = c.position - 1 " +
+            "WHERE c.list = :list AND c.archived = false AND c.position > :position")
+    int shiftActivePositionsAfter(@Param("list") BoardList list, @Param("position") Integer position);
+
+    // Native writes name the tables they touch; otherwise Hibernate evicts every second-level cache region.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "cards"))
+    @Query(value = "UPDATE cards SET checklist_total = checklist_total + :totalDelta, " +
+            "checklist_completed = checklist_completed + :completedDelta WHERE id = :cardId", nativeQuery = true)
+    int adjustChecklistCounts(@Param("cardId") Long cardId,
+                              @Param("totalDelta") int totalDelta,
+                              @Param("completedDelta") int completedDelta);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "cards"))
+    @Query(value = "UPDATE cards SET comment_count = comment_count + :delta WHERE id = :cardId", nativeQuery = true)
+    int adjustCommentCount(@Param("cardId") Long cardId, @Param("delta") int delta);
+
+    @Query("SELECT c.id FROM Card c WHERE c.archived = true AND c.archivedAt < :cutoff")
+    List<Long> findArchivedIdsBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Query("SELECT c.id FROM Card c WHERE c.list.id IN :listIds")
+    List<Long> findIdsByListIdIn(@Param("listIds") List<Long> listIds, Pageable pageable);
+
+    @Query("SELECT c.id FROM Card c WHERE c.list.board.id = :boardId")
+    List<Long> findIdsByBoardId(@Param("boardId") Long boardId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Card c WHERE c.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("SELECT c FROM Card c JOIN FETCH c.list l JOIN FETCH l.board b JOIN BoardMember m ON m.board = b " +
+            "WHERE m.user.email = :email AND b.pendingDeletion = false AND l.archived = false " +
+            "AND c.archived = false AND c.dueDate >= :from AND c.dueDate < :to " +
+            "AND (c.dueDate, c.id) > (:afterDueDate, :afterId) " +
+            "ORDER BY c.dueDate ASC, c.id ASC")
+    List<Card> findUpcomingForMember(@Param("email") String email,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to,
+                                    @Param("afterDueDate") LocalDateTime afterDueDate,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
+    @Query("SELECT c.id AS cardId, c.title AS title, c.dueDate AS dueDate, b.id AS boardId, " +
+            "b.title AS boardTitle " +
+            "FROM Card c JOIN c.list l JOIN l.board b " +
+            "WHERE c.reminderSent = false AND c.archived = false AND l.archived = false " +
+            "AND b.pendingDeletion = false AND c.dueDate < :horizon " +
+            "AND (c.dueDate, c.id) > (:afterDueDate, :afterId) " +
+            "ORDER BY c.dueDate ASC, c.id ASC")
+    List<ReminderCandidate> findReminderCandidates(@Param("afterDueDate") LocalDateTime afterDueDate,
+                                                   @Param("afterId") Long afterId,
+                                                   @Param("horizon") LocalDateTime horizon,
+                                                   Pageable pageable);
+
+    @Query("SELECT c.id AS cardId, c.title AS title, c.dueDate AS dueDate, b.id AS boardId, " +
+            "b.title AS boardTitle " +
+            "FROM Card c JOIN c.list l JOIN l.board b " +
+            "WHERE c.id IN :ids AND c.reminderSent = false AND c.archived = false AND l.archived = false")
+    List<ReminderCandidate> findPendingRemindersByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Card c SET c.reminderSent = true WHERE c.id IN :ids")
+    int markRemindersSent(@Param("ids") Collection<Long> ids);
+
+    // Each source is matched through its GIN index, restricted to the caller's boards, and only the
+    // best hit per card is kept; ts_headline runs on the limited result set only. Matches are delimited by
+    // the control characters in CardSearchHit, stripped from the text beforehand, since the text is not
+    // HTML-escaped yet.
+    @Query(nativeQuery = true, value = """
+            WITH q AS (
+                SELECT websearch_to_tsquery('english', :query) AS query
+            ), accessible AS (
+                SELECT l.id
+                FROM users u
+                JOIN board_members m ON m.user_id = u.id
+                JOIN boards b ON b.id = m.board_id
+                JOIN board_lists l ON l.board_id = b.id
+                WHERE u.email = :email AND l.archived = false AND b.pending_deletion = false
+            ), hits AS (
+                SELECT c.id AS card_id, ts_rank(c.search_vector, q.query) AS rank, 'card' AS source, NULL::bigint AS source_id
+                FROM cards c JOIN accessible a ON a.id = c.list_id, q
+                WHERE c.archived = false AND c.search_vector @@ q.query
+                UNION ALL
+                SELECT c.id, ts_rank(cm.search_vector, q.query) * 0.5, 'comment', cm.id
+                FROM comments cm JOIN cards c ON c.id = cm.card_id JOIN accessible a ON a.id = c.list_id, q
+                WHERE c.archived = false AND cm.search_vector @@ q.query
+                UNION ALL
+                SELECT c.id, ts_rank(ci.search_vector, q.query) * 0.5, 'checklist', ci.id
+                FROM checklist_items ci JOIN cards c ON c.id = ci.card_id JOIN accessible a ON a.id = c.list_id, q
+                WHERE c.archived = false AND ci.search_vector @@ q.query
+            ), best AS (
+                SELECT DISTINCT ON (card_id) card_id, rank, source, source_id
+                FROM hits
+                ORDER BY card_id, rank DESC
+            )
+            SELECT c.id AS cardId, c.title AS title, l.id AS listId, l.title AS listTitle,
+                   b.id AS boardId, b.title AS boardTitle, best.source AS matchedIn,
+                   CAST(best.rank AS float8) AS rank,
+                   ts_headline('english',
+                       translate(CASE best.source
+                           WHEN 'comment' THEN cm.content
+                           WHEN 'checklist' THEN ci.content
+                           ELSE concat_ws(' ', c.title, c.description)
+                       END, chr(2) || chr(3), ''),
+                       q.query,
+                       'StartSel="' || chr(2) || '", StopSel="' || chr(3) || '", MaxWords=30, MinWords=10, MaxFragments=2') AS snippet
+            FROM best
+            JOIN cards c ON c.id = best.card_id
+            JOIN board_lists l ON l.id = c.list_id
+            JOIN boards b ON b.id = l.board_id
+            LEFT JOIN comments cm ON best.source = 'comment' AND cm.id = best.source_id
+            LEFT JOIN checklist_items ci ON best.source = 'checklist' AND ci.id = best.source_id
+            CROSS JOIN q
+            ORDER BY best.rank DESC, c.id
+            LIMIT :limit
+            """)
+    List<CardSearchHit> searchCards(@Param("query") String query, @Param("email") String email, @Param("limit") int limit);
+}
@@ -0,0 +1,19 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.dto.CardField;
+import com.taskflow.api.dto.CardSortField;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface CardRepositoryCustom {
+
+    int reorderActiveCards(Long listId, CardSortField field, boolean descending);
+
+    /**
+     * Active cards of the given lists, reading only the selected fields, grouped by list id in position order.
+     */
+    Map<Long, List<Map<String, Object>>> findActiveFieldsByListIds(Collection<Long> listIds, Set<CardField> fields);
+}
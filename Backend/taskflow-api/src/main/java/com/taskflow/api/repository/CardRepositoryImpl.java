@@ -0,0 +1,57 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.dto.CardField;
+import com.taskflow.api.dto.CardSortField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class CardRepositoryImpl implements CardRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int reorderActiveCards(Long listId, CardSortField field, boolean descending) {
+        // The sort column comes from a fixed enum, never from user input, so it is safe to inline.
+        String direction = descending ? "DESC" : "ASC";
+        String sql = "UPDATE cards c SET position = ranked.new_position, updated_at = now() " +
+                "FROM (SELECT id, ROW_NUMBER() OVER (ORDER BY " + field.getSortExpression() + " " + direction +
+                " NULLS LAST, position ASC, id ASC) - 1 AS new_position " +
+                "FROM cards WHERE list_id = :listId AND archived = false) ranked " +
+                "WHERE c.id = ranked.id";
+
+        int updated = entityManager.createNativeQuery(sql)
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "cards")
+                .setParameter("listId", listId)
+                .executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    @Override
+    public Map<Long, List<Map<String, Object>>> findActiveFieldsByListIds(Collection<Long> listIds,
+                                                                        Set<CardField> fields) {
+        Map<Long, List<Map<String, Object>>> cardsByList = new LinkedHashMap<>();
+        listIds.forEach(listId -> cardsByList.put(listId, new ArrayList<>()));
+        if (listIds.isEmpty()) {
+            return cardsByList;
+        }
+
+        List<Tuple> rows = FieldProjection.select(entityManager, fields, List.of("c.list.id"),
+                "FROM Card c WHERE c.list.id IN :listIds AND c.archived = false ORDER BY c.list.id, c.position",
+                Map.of("listIds", listIds));
+        for (Tuple row : rows) {
+            cardsByList.get(row.get(fields.size(), Long.class)).add(FieldProjection.toMap(row, fields));
+        }
+        return cardsByList;
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskflow.api.repository;
+
+public interface CardSearchHit {
+    /** Delimit the matched words in {@link #getSnippet()}, which is plain, unescaped text. */
+    char MATCH_START = '\u0002';
+    char MATCH_END = '\u0003';
+
+    Long getCardId();
+    String getTitle();
+    Long getListId();
+    String getListTitle();
+    Long getBoardId();
+    String getBoardTitle();
+    String getMatchedIn();
+    Double getRank();
+    String getSnippet();
+}
@@ -4,14 +4,28 @@ package com.taskflow.api.repository;
 
 import com.taskflow.api.model.Card;
 import com.taskflow.api.model.ChecklistItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ChecklistItemRepository extends JpaRepository<ChecklistItem, Long> {
+public interface ChecklistItemRepository extends JpaRepository<ChecklistItem, Long>, ChecklistItemRepositoryCustom {
     @Query("SELECT c FROM ChecklistItem c WHERE c.card = ?1 ORDER BY c.position ASC")
     List<ChecklistItem> findByCardOrderByPositionAsc(Card card);
-}
\ No newline at end of file
+
+    @Query("SELECT c FROM ChecklistItem c WHERE c.card.id IN :cardIds ORDER BY c.card.id, c.position")
+    List<ChecklistItem> findByCardIdIn(@Param("cardIds") Collection<Long> cardIds);
+
+    @Query("SELECT c FROM ChecklistItem c WHERE c.card.id IN :cardIds ORDER BY c.card.id, c.position")
+    List<ChecklistItem> findByCardIdIn(@Param("cardIds") Collection<Long> cardIds, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ChecklistItem c WHERE c.card.id IN :cardIds")
+    int deleteByCardIdIn(@Param("cardIds") List<Long> cardIds);
+}
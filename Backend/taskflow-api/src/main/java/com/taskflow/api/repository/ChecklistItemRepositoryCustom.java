@@ -0,0 +1,8 @@
+package com.taskflow.api.repository;
+
+import java.util.Map;
+
+public interface ChecklistItemRepositoryCustom {
+
+    int bulkUpdate(Long cardId, Map<Long, Integer> positions, Map<Long, Boolean> completed);
+}
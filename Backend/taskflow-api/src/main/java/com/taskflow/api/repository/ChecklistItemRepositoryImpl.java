@@ -0,0 +1,65 @@
+package com.taskflow.api.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class ChecklistItemRepositoryImpl implements ChecklistItemRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int bulkUpdate(Long cardId, Map<Long, Integer> positions, Map<Long, Boolean> completed) {
+        if (positions.isEmpty() && completed.isEmpty()) {
+            return 0;
+        }
+
+        // One statement for the whole checklist: a CASE per column maps each item id to its new value.
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder sql = new StringBuilder("UPDATE checklist_items SET ");
+        if (!positions.isEmpty()) {
+            sql.append("position = CASE id");
+            appendCases(sql, parameters, "position", positions);
+            sql.append(" ELSE position END, ");
+        }
+        if (!completed.isEmpty()) {
+            sql.append("completed = CASE id");
+            appendCases(sql, parameters, "completed", completed);
+            sql.append(" ELSE completed END, ");
+        }
+        sql.append("updated_at = now() WHERE card_id = :cardId AND id IN (:ids)");
+
+        Set<Long> ids = new HashSet<>(positions.keySet());
+        ids.addAll(completed.keySet());
+
+        Query query = entityManager.createNativeQuery(sql.toString())
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "checklist_items")
+                .setParameter("cardId", cardId)
+                .setParameter("ids", ids);
+        parameters.forEach(query::setParameter);
+
+        int updated = query.executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    private void appendCases(StringBuilder sql, Map<String, Object> parameters, String prefix,
+                             Map<Long, ?> values) {
+        int index = 0;
+        for (Map.Entry<Long, ?> entry : values.entrySet()) {
+            String idParameter = prefix + "Id" + index;
+            String valueParameter = prefix + "Value" + index;
+            sql.append(" WHEN :").append(idParameter).append(" THEN :").append(valueParameter);
+            parameters.put(idParameter, entry.getKey());
+            parameters.put(valueParameter, entry.getValue());
+            index++;
+        }
+    }
+}
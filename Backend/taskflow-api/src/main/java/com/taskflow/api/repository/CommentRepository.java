@@ -4,12 +4,25 @@ package com.taskflow.api.repository;
 
 import com.taskflow.api.model.Card;
 import com.taskflow.api.model.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByCardOrderByCreatedAtDesc(Card card);
-}
\ No newline at end of file
+
+    @Query("SELECT cm FROM Comment cm JOIN FETCH cm.author WHERE cm.card.id IN :cardIds " +
+            "ORDER BY cm.card.id, cm.createdAt DESC")
+    List<Comment> findByCardIdIn(@Param("cardIds") Collection<Long> cardIds, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.card.id IN :cardIds")
+    int deleteByCardIdIn(@Param("cardIds") List<Long> cardIds);
+}
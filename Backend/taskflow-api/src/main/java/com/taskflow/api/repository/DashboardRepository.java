@@ -0,0 +1,60 @@
+package com.taskflow.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * JDBC access to the {@code board_stats} materialized view created by {@code 013_board_stats.sql}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DashboardRepository {
+    private static final long REFRESH_LOCK_KEY = 0x7a5cf10e0002L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * A page of the user's boards, grouped by workspace: ordered by workspace id, then newest board first,
+     * and continued after ({@code afterWorkspaceId}, {@code beforeBoardId}).
+     */
+    public List<DashboardRow> findPage(Long userId, long afterWorkspaceId, long beforeBoardId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT w.id, w.name, b.id, b.title, b.background_color, m.role, " +
+                        "COALESCE(s.list_count, 0), COALESCE(s.card_count, 0), COALESCE(s.overdue_count, 0), " +
+                        "s.refreshed_at " +
+                        "FROM board_members m " +
+                        "JOIN boards b ON b.id = m.board_id " +
+                        "JOIN workspaces w ON w.id = b.workspace_id " +
+                        "LEFT JOIN board_stats s ON s.board_id = b.id " +
+                        "WHERE m.user_id = ? AND b.pending_deletion = false " +
+                        "AND (w.id > ? OR (w.id = ? AND b.id < ?)) " +
+                        "ORDER BY w.id ASC, b.id DESC " +
+                        "LIMIT ?",
+                (resultSet, rowNum) -> {
+                    Timestamp refreshedAt = resultSet.getTimestamp(10);
+                    return new DashboardRow(resultSet.getLong(1), resultSet.getString(2), resultSet.getLong(3),
+                            resultSet.getString(4), resultSet.getString(5), resultSet.getString(6),
+                            resultSet.getLong(7), resultSet.getLong(8), resultSet.getLong(9),
+                            refreshedAt != null ? refreshedAt.toLocalDateTime() : null);
+                },
+                userId, afterWorkspaceId, afterWorkspaceId, beforeBoardId, limit);
+    }
+
+    /**
+     * Refreshes the view without blocking readers. Must run in a transaction; returns false when another
+     * node holds the refresh lock and is doing it already.
+     */
+    public boolean refreshStats() {
+        Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class,
+                REFRESH_LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked)) {
+            return false;
+        }
+        jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY board_stats");
+        return true;
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskflow.api.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * One of a user's boards with its workspace and precomputed counts. {@code statsRefreshedAt} is null for
+ * boards created since the last refresh of {@code board_stats}.
+ */
+public record DashboardRow(Long workspaceId, String workspaceName, Long boardId, String title,
+                           String backgroundColor, String role, long listCount, long cardCount,
+                           long overdueCount, LocalDateTime statsRefreshedAt) {
+}
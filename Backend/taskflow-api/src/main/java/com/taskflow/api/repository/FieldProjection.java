@@ -0,0 +1,49 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.dto.ProjectableField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs a JPQL tuple query that selects only the requested fields and returns one map per row,
+ * keyed by the fields' parameter names.
+ */
+final class FieldProjection {
+
+    private FieldProjection() {
+    }
+
+    /**
+     * @param fromClause everything after the select list, e.g. {@code "FROM Card c WHERE ..."}
+     * @param extraPaths additional paths selected after the fields, for the caller's own use
+     */
+    static List<Tuple> select(EntityManager entityManager, Collection<? extends ProjectableField> fields,
+                              List<String> extraPaths, String fromClause, Map<String, Object> parameters) {
+        // Values are read back by position, so field names never need to be valid HQL aliases.
+        List<String> paths = new ArrayList<>();
+        fields.forEach(field -> paths.add(field.getPath()));
+        paths.addAll(extraPaths);
+        String selectList = String.join(", ", paths);
+
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                "SELECT " + selectList + " " + fromClause, Tuple.class);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    static Map<String, Object> toMap(Tuple tuple, Collection<? extends ProjectableField> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        int index = 0;
+        for (ProjectableField field : fields) {
+            row.put(field.getParam(), tuple.get(index++));
+        }
+        return row;
+    }
+}
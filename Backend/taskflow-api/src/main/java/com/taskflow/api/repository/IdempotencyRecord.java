@@ -0,0 +1,14 @@
+package com.taskflow.api.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * A stored idempotency key; {@code status} is null while the original request is still running.
+ */
+public record IdempotencyRecord(String requestHash, Integer status, String contentType, byte[] body,
+                                LocalDateTime expiresAt) {
+
+    public boolean isCompleted() {
+        return status != null;
+    }
+}
@@ -0,0 +1,67 @@
+package com.taskflow.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC access to the table created by {@code 010_idempotency_keys.sql}. Statements run outside the
+ * request's service transaction so a claim is visible to concurrent retries as soon as it is taken.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Claims the key for a new request. Succeeds if the key is unused, expired, or held by a claim older
+     * than {@code staleBefore}.
+     */
+    public boolean claim(String owner, String key, String requestHash, LocalDateTime expiresAt,
+                         LocalDateTime staleBefore) {
+        return jdbcTemplate.update(
+                "INSERT INTO idempotency_keys (owner, idempotency_key, request_hash, created_at, expires_at) " +
+                        "VALUES (?, ?, ?, now(), ?) " +
+                        "ON CONFLICT (owner, idempotency_key) DO UPDATE " +
+                        "SET request_hash = EXCLUDED.request_hash, status = NULL, content_type = NULL, body = NULL, " +
+                        "created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at " +
+                        "WHERE idempotency_keys.expires_at < now() " +
+                        "OR (idempotency_keys.status IS NULL AND idempotency_keys.created_at < ?)",
+                owner, key, requestHash, Timestamp.valueOf(expiresAt), Timestamp.valueOf(staleBefore)) == 1;
+    }
+
+    public Optional<IdempotencyRecord> find(String owner, String key) {
+        List<IdempotencyRecord> records = jdbcTemplate.query(
+                "SELECT request_hash, status, content_type, body, expires_at FROM idempotency_keys " +
+                        "WHERE owner = ? AND idempotency_key = ? AND expires_at >= now()",
+                (rs, rowNum) -> new IdempotencyRecord(
+                        rs.getString("request_hash"),
+                        (Integer) rs.getObject("status"),
+                        rs.getString("content_type"),
+                        rs.getBytes("body"),
+                        rs.getTimestamp("expires_at").toLocalDateTime()),
+                owner, key);
+        return records.stream().findFirst();
+    }
+
+    public void complete(String owner, String key, int status, String contentType, byte[] body) {
+        jdbcTemplate.update(
+                "UPDATE idempotency_keys SET status = ?, content_type = ?, body = ? " +
+                        "WHERE owner = ? AND idempotency_key = ?",
+                status, contentType, body, owner, key);
+    }
+
+    public void release(String owner, String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE owner = ? AND idempotency_key = ? AND status IS NULL",
+                owner, key);
+    }
+
+    public int deleteExpiredBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < ?", Timestamp.valueOf(cutoff));
+    }
+}
@@ -0,0 +1,51 @@
+package com.taskflow.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC access to the shared rate limit counters created by {@code 009_rate_limit_usage.sql}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RateLimitRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds this node's usage for the window in one statement and returns the cluster-wide totals.
+     */
+    public Map<String, Long> addUsage(long windowStart, List<String> keys, List<Long> used) {
+        return jdbcTemplate.query(connection -> {
+                    Array keyArray = connection.createArrayOf("varchar", keys.toArray());
+                    Array usedArray = connection.createArrayOf("bigint", used.toArray());
+                    PreparedStatement statement = connection.prepareStatement(
+                            "INSERT INTO rate_limit_usage (bucket_key, window_start, used) " +
+                                    "SELECT k, ?, u FROM unnest(?::varchar[], ?::bigint[]) AS t(k, u) " +
+                                    "ON CONFLICT (bucket_key, window_start) DO UPDATE " +
+                                    "SET used = rate_limit_usage.used + EXCLUDED.used " +
+                                    "RETURNING bucket_key, used");
+                    statement.setLong(1, windowStart);
+                    statement.setArray(2, keyArray);
+                    statement.setArray(3, usedArray);
+                    return statement;
+                },
+                resultSet -> {
+                    Map<String, Long> totals = new HashMap<>();
+                    while (resultSet.next()) {
+                        totals.put(resultSet.getString(1), resultSet.getLong(2));
+                    }
+                    return totals;
+                });
+    }
+
+    public int deleteWindowsBefore(long windowStart) {
+        return jdbcTemplate.update("DELETE FROM rate_limit_usage WHERE window_start < ?", windowStart);
+    }
+}
@@ -0,0 +1,11 @@
+package com.taskflow.api.repository;
+
+import java.time.LocalDateTime;
+
+public interface ReminderCandidate {
+    Long getCardId();
+    String getTitle();
+    LocalDateTime getDueDate();
+    Long getBoardId();
+    String getBoardTitle();
+}
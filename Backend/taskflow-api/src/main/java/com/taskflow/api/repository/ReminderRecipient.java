@@ -0,0 +1,6 @@
+package com.taskflow.api.repository;
+
+public interface ReminderRecipient {
+    Long getBoardId();
+    String getEmail();
+}
@@ -2,8 +2,6 @@ package com.taskflow.api.repository;
 
 import com.taskflow.api.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
-import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 }
\ No newline at end of file
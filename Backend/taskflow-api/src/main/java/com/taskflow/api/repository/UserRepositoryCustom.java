@@ -0,0 +1,10 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.model.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    Optional<User> findByEmail(String email);
+}
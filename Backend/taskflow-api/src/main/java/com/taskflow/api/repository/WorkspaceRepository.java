@@ -0,0 +1,21 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.Workspace;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WorkspaceRepository extends JpaRepository<Workspace, Long> {
+    List<Workspace> findByOwnerOrderByNameAsc(User owner);
+
+    Optional<Workspace> findByOwnerAndName(User owner, String name);
+
+    @Query("SELECT count(b) FROM Board b WHERE b.workspace = :workspace")
+    long countBoards(@Param("workspace") Workspace workspace);
+}
@@ -0,0 +1,163 @@
+package com.taskflow.api.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.dto.error.ApiError;
+import com.taskflow.api.repository.IdempotencyRecord;
+import com.taskflow.api.service.IdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Makes POST/PUT/PATCH calls carrying an {@code Idempotency-Key} header safe to retry. The first request
+ * claims the key and its response is stored; a retry with the same key and body gets that response back
+ * without the service method running again. Keys are scoped to the authenticated user.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String method = request.getMethod();
+        return request.getHeader(HEADER) == null
+                || !("POST".equals(method) || "PUT".equals(method) || "PATCH".equals(method));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = request.getHeader(HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST, HEADER + " must be 1-" + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        String owner = authentication.getName();
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String requestHash = fingerprint(cachedRequest);
+
+        // A retry of a request completed on this node is answered without touching the table.
+        Optional<IdempotencyRecord> cached = idempotencyService.findCached(owner, key);
+        if (cached.isPresent()) {
+            respondToExisting(request, response, cached, requestHash);
+            return;
+        }
+        if (!idempotencyService.claim(owner, key, requestHash)) {
+            respondToExisting(request, response, idempotencyService.find(owner, key), requestHash);
+            return;
+        }
+
+        ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(cachedRequest, cachedResponse);
+            // Server errors are not final; the client should be able to retry them.
+            if (cachedResponse.getStatus() < 500) {
+                idempotencyService.complete(owner, key, requestHash, cachedResponse.getStatus(),
+                        cachedResponse.getContentType(), cachedResponse.getContentAsByteArray());
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyService.release(owner, key);
+            }
+            cachedResponse.copyBodyToResponse();
+        }
+    }
+
+    private void respondToExisting(HttpServletRequest request, HttpServletResponse response,
+                                   Optional<IdempotencyRecord> existing, String requestHash) throws IOException {
+        if (existing.isEmpty()) {
+            // The holder released its claim in the meantime; let the client retry.
+            writeError(request, response, HttpStatus.CONFLICT, "A request with this " + HEADER + " is in progress");
+        } else if (!existing.get().requestHash().equals(requestHash)) {
+            writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    HEADER + " was already used for a different request");
+        } else if (!existing.get().isCompleted()) {
+            writeError(request, response, HttpStatus.CONFLICT, "A request with this " + HEADER + " is in progress");
+        } else {
+            replay(existing.get(), response);
+        }
+    }
+
+    private void replay(IdempotencyRecord record, HttpServletResponse response) throws IOException {
+        response.setStatus(record.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.contentType() != null) {
+            response.setContentType(record.contentType());
+        }
+        if (record.body() != null && record.body().length > 0) {
+            response.setContentLength(record.body().length);
+            response.getOutputStream().write(record.body());
+        }
+    }
+
+    static String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(request.getBody());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String message) throws IOException {
+        ApiError apiError = ApiError.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), apiError);
+    }
+}
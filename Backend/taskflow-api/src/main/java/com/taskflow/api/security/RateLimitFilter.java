@@ -0,0 +1,213 @@
+package com.taskflow.api.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.config.RateLimitConfig;
+import com.taskflow.api.dto.error.ApiError;
+import com.taskflow.api.service.JwtService;
+import com.taskflow.api.service.RateLimiterService;
+import com.taskflow.api.service.RateLimiterService.Budget;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Rejects clients over their budget before authentication runs: auth endpoints per client IP and
+ * submitted email, other writes per user (per IP for anonymous calls). The user is taken from the verified
+ * token, whose claims are handed on to {@link JwtAuthenticationFilter} so the token is only parsed once.
+ * Behind a load balancer the client IP is the last {@code X-Forwarded-For} hop added by a trusted proxy.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    public static final String CLAIMS_ATTRIBUTE = RateLimitFilter.class.getName() + ".claims";
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+    // Credentials are a few hundred bytes; anything larger is keyed by address alone rather than buffered.
+    private static final int MAX_AUTH_BODY_BYTES = 16 * 1024;
+    // Literal IPv4/IPv6 addresses only, so matching a hop never triggers a DNS lookup.
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9a-fA-F:.]+");
+
+    @Autowired
+    private RateLimiterService rateLimiterService;
+
+    @Autowired
+    private RateLimitConfig rateLimitConfig;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private List<IpAddressMatcher> trustedProxies;
+
+    @PostConstruct
+    void initTrustedProxies() {
+        trustedProxies = rateLimitConfig.getTrustedProxies().stream()
+                .map(IpAddressMatcher::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        Budget budget = rateLimitConfig.isEnabled() ? budgetOf(request) : null;
+        if (budget == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos;
+        if (budget == Budget.AUTH) {
+            CachedBodyRequest cachedRequest = cacheBody(request);
+            if (cachedRequest != null) {
+                request = cachedRequest;
+            }
+            // The address budget is charged first, so an address that is out of attempts cannot spend
+            // the budgets of the accounts it names.
+            waitNanos = rateLimiterService.tryAcquire(Budget.AUTH_IP, "ip:" + clientIp(request));
+            if (waitNanos == 0) {
+                waitNanos = rateLimiterService.tryAcquire(Budget.AUTH, authKey(request, cachedRequest));
+            }
+        } else {
+            waitNanos = rateLimiterService.tryAcquire(budget, clientKey(request));
+        }
+        if (waitNanos > 0) {
+            reject(request, response, waitNanos);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Budget budgetOf(HttpServletRequest request) {
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)) {
+            return null;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/v1/auth/")) {
+            return Budget.AUTH;
+        }
+        return path.startsWith("/api/") ? Budget.WRITE : null;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            try {
+                Claims claims = jwtService.extractAllClaims(authHeader.substring(7));
+                request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+                return "user:" + claims.getSubject();
+            } catch (JwtException | IllegalArgumentException ex) {
+                // Left for JwtAuthenticationFilter to reject; budget the caller by address meanwhile.
+            }
+        }
+        return "ip:" + clientIp(request);
+    }
+
+    /**
+     * Login attempts are also budgeted per address and account, so one account cannot be guessed at from
+     * a single address faster than this tighter budget allows, while the users behind one NAT only share
+     * the coarser per-address budget.
+     */
+    private String authKey(HttpServletRequest request, CachedBodyRequest cachedRequest) {
+        String email = request.getParameter("email");
+        if (email == null && cachedRequest != null) {
+            email = emailOf(cachedRequest.getBody());
+        }
+        String key = "ip:" + clientIp(request);
+        return email != null && !email.isBlank() ? key + ":email:" + email.trim().toLowerCase() : key;
+    }
+
+    private CachedBodyRequest cacheBody(HttpServletRequest request) throws IOException {
+        long length = request.getContentLengthLong();
+        if (length <= 0 || length > MAX_AUTH_BODY_BYTES
+                || request.getContentType() == null || !request.getContentType().contains("json")) {
+            return null;
+        }
+        return new CachedBodyRequest(request);
+    }
+
+    private String emailOf(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).path("email");
+            return email.isTextual() ? email.asText() : null;
+        } catch (IOException ex) {
+            // Malformed bodies are the controller's to reject.
+            return null;
+        }
+    }
+
+    /**
+     * Walks {@code X-Forwarded-For} from the right while hops are trusted proxies; the first untrusted hop
+     * is the client. Entries left of it were written by the client and are never believed.
+     */
+    private String clientIp(HttpServletRequest request) {
+        String client = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (forwardedFor == null || !isTrustedProxy(client)) {
+            return client;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                break;
+            }
+            client = hop;
+            if (!isTrustedProxy(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        if (!IP_LITERAL.matcher(address).matches()) {
+            return false;
+        }
+        for (IpAddressMatcher proxy : trustedProxies) {
+            if (proxy.matches(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        ApiError apiError = ApiError.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                .message("Rate limit exceeded, retry in " + retryAfterSeconds + "s")
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), apiError);
+    }
+}
@@ -0,0 +1,120 @@
+package com.taskflow.api.security;
+
+import com.taskflow.api.model.User;
+import com.taskflow.api.service.BoardListService;
+import com.taskflow.api.service.BoardSubscriptionRegistry;
+import com.taskflow.api.service.JwtService;
+import com.taskflow.api.service.LiveBoardService;
+import com.taskflow.api.service.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * Authenticates STOMP sessions with the same bearer token as the REST API, sent in the CONNECT frame's
+ * {@code Authorization} header, and only lets users subscribe to boards they can access. Subscriptions are
+ * recorded so they can be revoked when the user loses access. Clients only listen, so SEND frames are
+ * refused.
+ */
+@Component
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    @Lazy
+    private BoardListService boardListService;
+
+    @Autowired
+    @Lazy
+    private BoardSubscriptionRegistry boardSubscriptionRegistry;
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT -> accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+            case SUBSCRIBE -> {
+                Long boardId = verifySubscription(accessor.getUser(), accessor.getDestination());
+                boardSubscriptionRegistry.subscribed(accessor.getSessionId(), accessor.getSubscriptionId(),
+                        userId(accessor.getUser()), boardId);
+            }
+            case UNSUBSCRIBE -> boardSubscriptionRegistry.unsubscribed(accessor.getSessionId(), accessor.getSubscriptionId());
+            case DISCONNECT -> boardSubscriptionRegistry.disconnected(accessor.getSessionId());
+            case SEND -> throw new MessageDeliveryException("Sending messages is not supported");
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    private Principal authenticate(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            throw new MessageDeliveryException("Missing bearer token");
+        }
+
+        String jwt = authHeader.substring(7);
+        try {
+            Claims claims = jwtService.extractAllClaims(jwt);
+            UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+            if (!jwtService.isTokenValid(jwt, userDetails) || tokenRevocationService.isRevoked(claims, userDetails)) {
+                throw new MessageDeliveryException("Invalid token");
+            }
+            return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        } catch (JwtException ex) {
+            throw new MessageDeliveryException("Invalid token");
+        }
+    }
+
+    private Long verifySubscription(Principal user, String destination) {
+        if (user == null) {
+            throw new MessageDeliveryException("Not authenticated");
+        }
+        if (destination == null || !destination.startsWith(LiveBoardService.TOPIC_PREFIX)) {
+            throw new MessageDeliveryException("Unknown destination");
+        }
+
+        Long boardId;
+        try {
+            boardId = Long.valueOf(destination.substring(LiveBoardService.TOPIC_PREFIX.length()));
+        } catch (NumberFormatException ex) {
+            throw new MessageDeliveryException("Unknown destination");
+        }
+        try {
+            boardListService.getBoardAndVerifyAccess(boardId, user.getName());
+        } catch (RuntimeException ex) {
+            throw new MessageDeliveryException(ex.getMessage());
+        }
+        return boardId;
+    }
+
+    private static Long userId(Principal user) {
+        return ((User) ((UsernamePasswordAuthenticationToken) user).getPrincipal()).getId();
+    }
+}
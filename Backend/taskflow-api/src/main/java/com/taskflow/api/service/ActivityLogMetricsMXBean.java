@@ -0,0 +1,16 @@
+package com.taskflow.api.service;
+
+/**
+ * Activity log writer counters, exposed over JMX as {@code com.taskflow.api:type=ActivityLog}.
+ */
+public interface ActivityLogMetricsMXBean {
+    int getQueued();
+
+    long getWritten();
+
+    long getDropped();
+
+    long getFailedWrites();
+
+    int getPendingRetry();
+}
@@ -0,0 +1,236 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.config.ActivityConfig;
+import com.taskflow.api.dto.ActivityDTO;
+import com.taskflow.api.dto.ActivityPageDTO;
+import com.taskflow.api.event.BoardChangeEvent;
+import com.taskflow.api.repository.ActivityLogRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records board activity off the request path: committed change events are queued in memory and written
+ * to the month-partitioned {@code activity_log} table in JDBC batches. A full queue slows committing requests
+ * down before anything is dropped, and a batch that fails to insert is retried, holding back newer entries,
+ * until the database accepts it. Entries still queued when the process dies are lost.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityLogService implements ActivityLogMetricsMXBean {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String OBJECT_NAME = "com.taskflow.api:type=ActivityLog";
+
+    private final ActivityLogRepository activityLogRepository;
+    private final BoardListService boardListService;
+    private final ActivityConfig activityConfig;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failedWrites = new AtomicLong();
+    private long droppedReported;
+    private BlockingQueue<BoardChangeEvent> queue;
+    private volatile List<BoardChangeEvent> failedBatch = List.of();
+
+    @PostConstruct
+    void init() {
+        queue = new ArrayBlockingQueue<>(activityConfig.getQueueCapacity());
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (JMException ex) {
+            log.warn("Could not register activity log MBean", ex);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void record(BoardChangeEvent event) {
+        try {
+            if (queue.offer(event, activityConfig.getOfferTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        dropped.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.activity.flush-millis:1000}")
+    public synchronized void flush() {
+        long totalDropped = dropped.get();
+        if (totalDropped > droppedReported) {
+            log.error("Activity queue full; dropped {} entries ({} in total)", totalDropped - droppedReported,
+                    totalDropped);
+            droppedReported = totalDropped;
+        }
+
+        if (!failedBatch.isEmpty()) {
+            if (!write(failedBatch)) {
+                return;
+            }
+            failedBatch = List.of();
+        }
+
+        List<BoardChangeEvent> batch = new ArrayList<>(activityConfig.getBatchSize());
+        while (queue.drainTo(batch, activityConfig.getBatchSize()) > 0) {
+            if (!write(batch)) {
+                // Kept for the next flush; the queue fills up meanwhile and slows writers down.
+                failedBatch = batch;
+                return;
+            }
+            batch = new ArrayList<>(activityConfig.getBatchSize());
+        }
+    }
+
+    private boolean write(List<BoardChangeEvent> batch) {
+        try {
+            activityLogRepository.insertBatch(batch);
+            written.addAndGet(batch.size());
+            return true;
+        } catch (DataAccessException ex) {
+            failedWrites.incrementAndGet();
+            log.error("Failed to write {} activity entries; retrying on the next flush", batch.size(), ex);
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            }
+        } catch (JMException ex) {
+            log.debug("Could not unregister activity log MBean", ex);
+        }
+    }
+
+    @Override
+    public int getQueued() {
+        return queue.size();
+    }
+
+    @Override
+    public long getWritten() {
+        return written.get();
+    }
+
+    @Override
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    @Override
+    public long getFailedWrites() {
+        return failedWrites.get();
+    }
+
+    @Override
+    public int getPendingRetry() {
+        return failedBatch.size();
+    }
+
+    /**
+     * Keeps partitions for this month and the next in place and drops those past the retention period.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${taskflow.activity.partition-cron:0 30 2 * * *}")
+    public void maintainPartitions() {
+        YearMonth current = YearMonth.now();
+        try {
+            activityLogRepository.createPartition(current);
+            activityLogRepository.createPartition(current.plusMonths(1));
+            int removed = activityLogRepository.dropPartitionsBefore(oldestRetainedMonth());
+            if (removed > 0) {
+                log.info("Dropped {} expired activity partitions", removed);
+            }
+        } catch (DataAccessException ex) {
+            // Another node may be doing the same; the next run catches up.
+            log.warn("Activity partition maintenance failed", ex);
+        }
+    }
+
+    /**
+     * Reads one partition per request, newest first. The first page comes from the current month; once a
+     * month is exhausted the cursor points at the top of the previous one, until the retention limit.
+     */
+    public ActivityPageDTO getBoardActivity(Long boardId, String email, String cursor, int limit) {
+        boardListService.getBoardAndVerifyAccess(boardId, email);
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        YearMonth month = YearMonth.now();
+        LocalDateTime beforeCreatedAt = startOf(month.plusMonths(1));
+        long beforeId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", 3);
+                month = YearMonth.parse(parts[0]);
+                beforeCreatedAt = LocalDateTime.parse(parts[1]);
+                beforeId = Long.parseLong(parts[2]);
+            } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException ex) {
+                throw new RuntimeException("Invalid cursor");
+            }
+        }
+
+        List<ActivityDTO> activities = activityLogRepository.findPage(
+                boardId, month, beforeCreatedAt, beforeId, pageSize);
+
+        String nextCursor = null;
+        if (activities.size() == pageSize) {
+            ActivityDTO last = activities.get(activities.size() - 1);
+            nextCursor = encodeCursor(month, last.getCreatedAt(), last.getId());
+        } else if (month.isAfter(oldestRetainedMonth())) {
+            YearMonth previous = month.minusMonths(1);
+            nextCursor = encodeCursor(previous, startOf(month), Long.MAX_VALUE);
+        }
+
+        return ActivityPageDTO.builder()
+                .activities(activities)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private YearMonth oldestRetainedMonth() {
+        return YearMonth.now().minusMonths(activityConfig.getRetentionMonths());
+    }
+
+    private LocalDateTime startOf(YearMonth month) {
+        return month.atDay(1).atStartOfDay();
+    }
+
+    private String encodeCursor(YearMonth month, LocalDateTime createdAt, long id) {
+        String raw = month + "|" + createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
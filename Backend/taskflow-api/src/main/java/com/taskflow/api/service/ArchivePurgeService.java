@@ -0,0 +1,73 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.config.PurgeConfig;
+import com.taskflow.api.repository.BoardListRepository;
+import com.taskflow.api.repository.CardRepository;
+import com.taskflow.api.repository.ChecklistItemRepository;
+import com.taskflow.api.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArchivePurgeService {
+    private final CardRepository cardRepository;
+    private final BoardListRepository boardListRepository;
+    private final CommentRepository commentRepository;
+    private final ChecklistItemRepository checklistItemRepository;
+    private final PurgeConfig purgeConfig;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${taskflow.purge.cron:0 0 3 * * *}")
+    public void purgeArchived() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(purgeConfig.getRetentionDays());
+        Pageable batch = PageRequest.of(0, purgeConfig.getBatchSize());
+
+        int cards = 0;
+        int purged;
+        do {
+            purged = transactionTemplate.execute(status ->
+                    purgeCards(cardRepository.findArchivedIdsBefore(cutoff, batch)));
+            cards += purged;
+        } while (purged > 0);
+
+        int lists = 0;
+        List<Long> listIds;
+        while (!(listIds = boardListRepository.findArchivedIdsBefore(cutoff, batch)).isEmpty()) {
+            List<Long> archivedListIds = listIds;
+            // Drain the archived lists' cards first; the lists themselves go once they are empty.
+            do {
+                purged = transactionTemplate.execute(status ->
+                        purgeCards(cardRepository.findIdsByListIdIn(archivedListIds, batch)));
+                cards += purged;
+            } while (purged > 0);
+
+            lists += transactionTemplate.execute(status -> boardListRepository.deleteByIdIn(archivedListIds));
+        }
+
+        if (cards > 0 || lists > 0) {
+            log.info("Purged {} cards and {} lists archived before {}", cards, lists, cutoff);
+        }
+    }
+
+    /**
+     * Hard-deletes the given cards and their comments and checklist items; runs in the caller's transaction.
+     */
+    public int purgeCards(List<Long> cardIds) {
+        if (cardIds.isEmpty()) {
+            return 0;
+        }
+        commentRepository.deleteByCardIdIn(cardIds);
+        checklistItemRepository.deleteByCardIdIn(cardIds);
+        return cardRepository.deleteByIdIn(cardIds);
+    }
+}
@@ -3,7 +3,9 @@ package com.taskflow.api.service;
 import com.taskflow.api.dto.UserDTO;
 import com.taskflow.api.dto.auth.AuthenticationRequest;
 import com.taskflow.api.dto.auth.AuthenticationResponse;
+import com.taskflow.api.dto.auth.RefreshTokenRequest;
 import com.taskflow.api.dto.auth.RegisterRequest;
+import com.taskflow.api.event.CacheInvalidationEvent.EntityType;
 import com.taskflow.api.exception.EmailNotVerifiedException;
 import com.taskflow.api.exception.InvalidCredentialsException;
 import com.taskflow.api.model.Role;
@@ -11,12 +13,14 @@ import com.taskflow.api.model.User;
 import com.taskflow.api.model.VerificationToken;
 import com.taskflow.api.repository.UserRepository;
 import com.taskflow.api.repository.VerificationTokenRepository;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Random;
@@ -30,6 +34,9 @@ public class AuthenticationService {
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
     private final EmailService emailService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final CacheInvalidationService cacheInvalidationService;
 
     public AuthenticationResponse register(RegisterRequest request) {
 
@@ -76,10 +83,46 @@ public class AuthenticationService {
 
         return AuthenticationResponse.builder()
                 .token(jwtToken)
+                .refreshToken(refreshTokenService.issue(user))
                 .user(UserDTO.fromUser(user))
                 .build();
     }
 
+    public AuthenticationResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenService.RotatedToken rotated = refreshTokenService.rotate(request.getRefreshToken());
+
+        return AuthenticationResponse.builder()
+                .token(jwtService.generateToken(rotated.user()))
+                .refreshToken(rotated.refreshToken())
+                .user(UserDTO.fromUser(rotated.user()))
+                .build();
+    }
+
+    /**
+     * Revokes the presented access token and, if given, the refresh token family it was issued with.
+     */
+    @Transactional
+    public void logout(String accessToken, RefreshTokenRequest request) {
+        tokenRevocationService.revoke(jwtService.extractAllClaims(accessToken));
+        if (request != null) {
+            refreshTokenService.revokeFamilyOf(request.getRefreshToken());
+        }
+    }
+
+    /**
+     * Signs the user out everywhere: every access token issued up to now and every refresh token stop working.
+     */
+    @Transactional
+    public void revokeAllSessions(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        tokenRevocationService.revokeAllIssuedBefore(user, LocalDateTime.now());
+        userRepository.save(user);
+        cacheInvalidationService.publish(EntityType.USER, user.getId());
+        refreshTokenService.revokeAll(user);
+    }
+
     public AuthenticationResponse verifyEmail(String email, String code) {
 
         User user = userRepository.findByEmail(email)
@@ -104,6 +147,7 @@ public class AuthenticationService {
 
         user.setEnabled(true);
         userRepository.save(user);
+        cacheInvalidationService.publish(EntityType.USER, user.getId());
 
 
         tokenRepository.delete(token);
@@ -113,6 +157,7 @@ public class AuthenticationService {
 
         return AuthenticationResponse.builder()
                 .token(jwtToken)
+                .refreshToken(refreshTokenService.issue(user))
                 .message("Email verified successfully")
                 .user(UserDTO.fromUser(user))
                 .build();
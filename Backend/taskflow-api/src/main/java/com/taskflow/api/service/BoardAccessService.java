@@ -0,0 +1,41 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.model.Board;
+import com.taskflow.api.model.BoardMember;
+import com.taskflow.api.model.BoardMemberId;
+import com.taskflow.api.model.BoardRole;
+import com.taskflow.api.model.User;
+import com.taskflow.api.repository.BoardMemberRepository;
+import com.taskflow.api.repository.BoardRepository;
+import com.taskflow.api.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Checks a user's role on a board. The board, the user by email and the membership are each read by key
+ * and served from the second-level cache when warm, so the check costs the same on a board with
+ * thousands of members as on a private one.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardAccessService {
+    private final BoardRepository boardRepository;
+    private final UserRepository userRepository;
+    private final BoardMemberRepository boardMemberRepository;
+
+    public Board verifyAccess(Long boardId, String email, BoardRole required) {
+        Board board = boardRepository.findActiveById(boardId)
+                .orElseThrow(() -> new RuntimeException("Board not found"));
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        BoardRole role = boardMemberRepository.findById(new BoardMemberId(boardId, user.getId()))
+                .map(BoardMember::getRole)
+                .orElseThrow(() -> new RuntimeException("You do not have access to this board"));
+        if (!role.includes(required)) {
+            throw new RuntimeException("You do not have permission to change this board");
+        }
+
+        return board;
+    }
+}
@@ -0,0 +1,135 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.config.PurgeConfig;
+import com.taskflow.api.dto.BoardDeletionStatusDTO;
+import com.taskflow.api.dto.BoardDeletionStatusDTO.State;
+import com.taskflow.api.event.CacheInvalidationEvent.EntityType;
+import com.taskflow.api.repository.BoardDeletionRecord;
+import com.taskflow.api.repository.BoardDeletionRepository;
+import com.taskflow.api.repository.BoardListRepository;
+import com.taskflow.api.repository.BoardMemberRepository;
+import com.taskflow.api.repository.BoardRepository;
+import com.taskflow.api.repository.CardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deletes a board's tree bottom-up with set-based statements, one batch of cards per transaction,
+ * instead of letting JPA cascades load every descendant into the persistence context. Progress is kept
+ * in {@code board_deletions}, so any node can report it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardDeletionService {
+    private static final long STATUS_RETENTION_HOURS = 1;
+    private static final String LEADER_ROLE = "board-deletion-resume";
+
+    private final BoardRepository boardRepository;
+    private final BoardListRepository boardListRepository;
+    private final BoardMemberRepository boardMemberRepository;
+    private final CardRepository cardRepository;
+    private final ArchivePurgeService archivePurgeService;
+    private final PurgeConfig purgeConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final LeaderElectionService leaderElectionService;
+    private final BoardDeletionRepository boardDeletionRepository;
+
+    /**
+     * Hides the board from every read path; the rows are removed by {@link #purgeBoard}.
+     */
+    public BoardDeletionStatusDTO markForDeletion(Long boardId, String ownerEmail) {
+        boardDeletionRepository.deleteCompletedBefore(LocalDateTime.now().minusHours(STATUS_RETENTION_HOURS));
+        transactionTemplate.executeWithoutResult(status -> {
+            boardRepository.markPendingDeletion(boardId, LocalDateTime.now());
+            boardDeletionRepository.start(boardId, ownerEmail);
+            cacheInvalidationService.publish(EntityType.BOARD, boardId);
+        });
+        return boardDeletionRepository.find(boardId)
+                .map(BoardDeletionRecord::toDTO)
+                .orElseThrow(() -> new RuntimeException("Board deletion was not recorded"));
+    }
+
+    @Async
+    public void purgeBoardAsync(Long boardId) {
+        purgeBoard(boardId);
+    }
+
+    /**
+     * Progress is recorded after every batch, so the status can be read from any node.
+     */
+    public void purgeBoard(Long boardId) {
+        Pageable batch = PageRequest.of(0, purgeConfig.getBatchSize());
+        long deletedCards = 0;
+
+        try {
+            int purged;
+            do {
+                purged = transactionTemplate.execute(status -> {
+                    int count = archivePurgeService.purgeCards(cardRepository.findIdsByBoardId(boardId, batch));
+                    boardDeletionRepository.addDeletedCards(boardId, count);
+                    return count;
+                });
+                deletedCards += purged;
+            } while (purged > 0);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                boardListRepository.deleteByBoardId(boardId);
+                boardMemberRepository.deleteByBoardId(boardId);
+                boardRepository.deleteBoardRow(boardId);
+                boardDeletionRepository.finish(boardId, State.COMPLETED);
+                cacheInvalidationService.publish(EntityType.BOARD, boardId);
+                cacheInvalidationService.publish(EntityType.LIST, null);
+            });
+        } catch (RuntimeException ex) {
+            try {
+                boardDeletionRepository.finish(boardId, State.FAILED);
+            } catch (RuntimeException statusEx) {
+                ex.addSuppressed(statusEx);
+            }
+            log.error("Deletion of board {} failed after {} cards", boardId, deletedCards, ex);
+            throw ex;
+        }
+    }
+
+    public BoardDeletionStatusDTO getStatus(Long boardId, String email) {
+        return boardDeletionRepository.find(boardId)
+                .filter(deletion -> email.equals(deletion.ownerEmail()))
+                .map(BoardDeletionRecord::toDTO)
+                .orElseThrow(() -> new RuntimeException("No deletion in progress for this board"));
+    }
+
+    /**
+     * Resumes deletions that failed, or that were interrupted, e.g. by a restart, and have made no progress
+     * for an hour. Runs on one node only; a board that fails again does not hold up the others.
+     */
+    @Scheduled(cron = "${taskflow.purge.cron:0 0 3 * * *}")
+    public void resumeInterruptedDeletions() {
+        if (!leaderElectionService.isLeader(LEADER_ROLE)) {
+            return;
+        }
+        LocalDateTime staleBefore = LocalDateTime.now().minusHours(1);
+        boardDeletionRepository.deleteCompletedBefore(LocalDateTime.now().minusHours(STATUS_RETENTION_HOURS));
+
+        for (Long boardId : boardRepository.findPendingDeletionIdsUpdatedBefore(staleBefore)) {
+            if (!boardDeletionRepository.resume(boardId, staleBefore)) {
+                continue;
+            }
+            log.info("Resuming deletion of board {}", boardId);
+            try {
+                purgeBoard(boardId);
+            } catch (RuntimeException ex) {
+                // Logged by purgeBoard; retried on the next run.
+            }
+        }
+    }
+}
@@ -1,39 +1,126 @@
 package com.taskflow.api.service;
 
+import com.taskflow.api.config.CoalescingConfig;
 import com.taskflow.api.dto.BoardListDTO;
+import com.taskflow.api.dto.BoardListField;
+import com.taskflow.api.dto.CardField;
+import com.taskflow.api.dto.CardSortField;
 import com.taskflow.api.dto.CreateBoardListRequest;
+import com.taskflow.api.dto.ListOrderDTO;
+import com.taskflow.api.dto.ProjectableField;
+import com.taskflow.api.event.BoardChangeEvent;
+import com.taskflow.api.event.BoardChangeEvent.Action;
+import com.taskflow.api.event.BoardChangeEvent.EntityType;
 import com.taskflow.api.model.Board;
 import com.taskflow.api.model.BoardList;
+import com.taskflow.api.model.BoardRole;
 import com.taskflow.api.repository.BoardListRepository;
-import com.taskflow.api.repository.BoardRepository;
+import com.taskflow.api.repository.BoardSyncRepository;
+import com.taskflow.api.repository.CardRepository;
 import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.util.SingleFlight;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class BoardListService {
     private final BoardListRepository boardListRepository;
-    private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final CardRepository cardRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BoardSyncRepository boardSyncRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final CoalescingConfig coalescingConfig;
+    private final BoardAccessService boardAccessService;
+
+    private SingleFlight<BoardVersion, List<BoardListDTO>> listLoads;
+
+    @PostConstruct
+    void initListLoads() {
+        listLoads = new SingleFlight<>(Duration.ofMillis(coalescingConfig.getTimeoutMillis()));
+    }
 
-    @Transactional(readOnly = true)
+    /**
+     * Lists with their cards. Concurrent reads of the same board version share one load: the access check
+     * runs per caller, then the load runs in its own read-only transaction so waiting callers are not
+     * inside one. Keying on the board's change sequence means nobody gets data older than the version they
+     * saw when they arrived. The sequence is read with the same read-only routing as the load, so a key never
+     * names a version the replica has not replayed yet.
+     */
     public List<BoardListDTO> getListsByBoard(Long boardId, String email) {
         Board board = getBoardAndVerifyAccess(boardId, email);
 
-        return boardListRepository.findByBoardOrderByPositionAsc(board)
+        if (!coalescingConfig.isEnabled()) {
+            return loadLists(board);
+        }
+        BoardVersion version = readOnly().execute(status ->
+                new BoardVersion(boardId, boardSyncRepository.findState(boardId).lastSeq()));
+        return listLoads.execute(version, () -> loadLists(board));
+    }
+
+    private List<BoardListDTO> loadLists(Board board) {
+        return readOnly().execute(status -> boardListRepository.findByBoardOrderByPositionAsc(board)
                 .stream()
                 .map(BoardListDTO::fromBoardList)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly;
+    }
+
+
+    /**
+     * Lists of a board reading only the requested columns. Fields prefixed with {@code cards.} select the
+     * nested cards' fields; without any, cards are left out.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getListFieldsByBoard(Long boardId, String fields, String email) {
+        getBoardAndVerifyAccess(boardId, email);
+
+        List<String> listParams = new ArrayList<>();
+        List<String> cardParams = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String param = field.trim();
+            if (param.equalsIgnoreCase("cards")) {
+                cardParams.add(CardField.ID.getParam());
+            } else if (param.regionMatches(true, 0, "cards.", 0, 6)) {
+                cardParams.add(param.substring(6));
+            } else {
+                listParams.add(param);
+            }
+        }
+
+        List<Map<String, Object>> lists = boardListRepository.findActiveFieldsByBoardId(boardId,
+                ProjectableField.parse(String.join(",", listParams), BoardListField.class, BoardListField.ID));
+        if (!cardParams.isEmpty()) {
+            Map<Long, List<Map<String, Object>>> cardsByList = cardRepository.findActiveFieldsByListIds(
+                    lists.stream().map(list -> (Long) list.get(BoardListField.ID.getParam())).toList(),
+                    ProjectableField.parse(String.join(",", cardParams), CardField.class, CardField.ID));
+            lists.forEach(list -> list.put("cards", cardsByList.get((Long) list.get(BoardListField.ID.getParam()))));
+        }
+        return lists;
     }
 
     @Transactional
     public BoardListDTO createList(CreateBoardListRequest request, String email) {
-        Board board = getBoardAndVerifyAccess(request.getBoardId(), email);
+        Board board = getBoardAndVerifyAccess(request.getBoardId(), email, BoardRole.EDITOR);
 
         if (request.getPosition() == null) {
             List<BoardList> lists = boardListRepository.findByBoardOrderByPositionAsc(board);
@@ -50,15 +137,16 @@ public class BoardListService {
                 .build();
 
         BoardList savedList = boardListRepository.save(boardList);
+        publish(board.getId(), savedList.getId(), Action.CREATED, email, "position=" + savedList.getPosition());
         return BoardListDTO.fromBoardListWithoutCards(savedList);
     }
 
     @Transactional
     public BoardListDTO updateList(Long listId, CreateBoardListRequest request, String email) {
-        BoardList boardList = boardListRepository.findById(listId)
+        BoardList boardList = boardListRepository.findActiveById(listId)
                 .orElseThrow(() -> new RuntimeException("List not found"));
 
-        Board board = getBoardAndVerifyAccess(boardList.getBoard().getId(), email);
+        Board board = getBoardAndVerifyAccess(boardList.getBoard().getId(), email, BoardRole.EDITOR);
 
 
         Integer oldPosition = boardList.getPosition();
@@ -67,41 +155,98 @@ public class BoardListService {
         boardList.setTitle(request.getTitle());
 
 
+        Action action = Action.UPDATED;
         if (request.getPosition() != null && !request.getPosition().equals(oldPosition)) {
             handlePositionChange(board, oldPosition, request.getPosition());
             boardList.setPosition(request.getPosition());
+            action = Action.MOVED;
         }
 
         BoardList updatedList = boardListRepository.save(boardList);
+        publish(board.getId(), listId, action, email, "position=" + updatedList.getPosition());
         return BoardListDTO.fromBoardListWithoutCards(updatedList);
     }
 
     @Transactional
     public void deleteList(Long listId, String email) {
-        BoardList boardList = boardListRepository.findById(listId)
+        BoardList boardList = boardListRepository.findActiveById(listId)
                 .orElseThrow(() -> new RuntimeException("List not found"));
 
-        getBoardAndVerifyAccess(boardList.getBoard().getId(), email);
+        getBoardAndVerifyAccess(boardList.getBoard().getId(), email, BoardRole.EDITOR);
 
 
         Integer position = boardList.getPosition();
         Board board = boardList.getBoard();
 
 
-        boardListRepository.delete(boardList);
+        boardList.setArchived(true);
+        boardList.setArchivedAt(LocalDateTime.now());
+        boardListRepository.save(boardList);
 
 
-        List<BoardList> listsToUpdate = boardListRepository.findByBoardOrderByPositionAsc(board)
-                .stream()
-                .filter(list -> list.getPosition() > position)
-                .collect(Collectors.toList());
+        boardListRepository.shiftActivePositionsAfter(board, position);
+        publish(board.getId(), listId, Action.DELETED, email, null);
+    }
+
+    @Transactional
+    public List<ListOrderDTO> moveAllCards(Long sourceListId, Long targetListId, String email) {
+        if (sourceListId.equals(targetListId)) {
+            throw new RuntimeException("Source and target lists must differ");
+        }
 
-        for (BoardList list : listsToUpdate) {
-            list.setPosition(list.getPosition() - 1);
-            boardListRepository.save(list);
+        BoardList source = getListAndVerifyAccess(sourceListId, email);
+        BoardList target = getListAndVerifyAccess(targetListId, email);
+        // Board sync, live updates and dashboard counts are per board; a move across boards would bypass them.
+        if (!source.getBoard().getId().equals(target.getBoard().getId())) {
+            throw new RuntimeException("Cards can only be moved between lists of the same board");
         }
+
+        int offset = (int) cardRepository.countActiveByList(target);
+        int moved = cardRepository.moveActiveCards(source, target, offset, LocalDateTime.now());
+        publish(source.getBoard().getId(), sourceListId, Action.CARDS_MOVED, email,
+                "targetListId=" + targetListId + " count=" + moved, Set.of(sourceListId, targetListId));
+
+        return List.of(getListOrder(sourceListId), getListOrder(targetListId));
     }
 
+    @Transactional
+    public ListOrderDTO sortCards(Long listId, String field, String direction, String email) {
+        BoardList list = getListAndVerifyAccess(listId, email);
+
+        CardSortField sortField = CardSortField.fromParam(field);
+        boolean descending = "desc".equalsIgnoreCase(direction);
+        cardRepository.reorderActiveCards(listId, sortField, descending);
+        publish(list.getBoard().getId(), listId, Action.CARDS_SORTED, email,
+                "field=" + sortField.name() + " direction=" + (descending ? "desc" : "asc"), Set.of(listId));
+
+        return getListOrder(listId);
+    }
+
+    @Transactional
+    public ListOrderDTO archiveAllCards(Long listId, String email) {
+        BoardList list = getListAndVerifyAccess(listId, email);
+
+        int archived = cardRepository.archiveActiveCards(list, LocalDateTime.now());
+        publish(list.getBoard().getId(), listId, Action.CARDS_ARCHIVED, email, "count=" + archived, Set.of(listId));
+
+        return getListOrder(listId);
+    }
+
+    private ListOrderDTO getListOrder(Long listId) {
+        return ListOrderDTO.builder()
+                .listId(listId)
+                .cardIds(cardRepository.findActiveIdsByListIdOrderByPosition(listId))
+                .build();
+    }
+
+    private BoardList getListAndVerifyAccess(Long listId, String email) {
+        BoardList list = boardListRepository.findActiveById(listId)
+                .orElseThrow(() -> new RuntimeException("List not found"));
+
+        getBoardAndVerifyAccess(list.getBoard().getId(), email, BoardRole.EDITOR);
+
+        return list;
+    }
 
     private void shiftBoardListsForInsert(Board board, Integer newPosition) {
         List<BoardList> listsToShift = boardListRepository.findByBoardOrderByPositionAsc(board)
@@ -141,14 +286,31 @@ public class BoardListService {
         }
     }
 
-    private Board getBoardAndVerifyAccess(Long boardId, String email) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new RuntimeException("Board not found"));
+    private void publish(Long boardId, Long listId, Action action, String email, String details) {
+        publish(boardId, listId, action, email, details, Set.of());
+    }
+
+    private void publish(Long boardId, Long listId, Action action, String email, String details,
+                         Set<Long> reorderedListIds) {
+        eventPublisher.publishEvent(BoardChangeEvent.builder()
+                .boardId(boardId)
+                .entityType(EntityType.LIST)
+                .entityId(listId)
+                .action(action)
+                .actorEmail(email)
+                .details(details)
+                .reorderedListIds(reorderedListIds)
+                .build());
+    }
 
-        if (!board.getOwner().getEmail().equals(email)) {
-            throw new RuntimeException("You do not have access to this board");
-        }
+    public Board getBoardAndVerifyAccess(Long boardId, String email) {
+        return getBoardAndVerifyAccess(boardId, email, BoardRole.VIEWER);
+    }
+
+    public Board getBoardAndVerifyAccess(Long boardId, String email, BoardRole required) {
+        return boardAccessService.verifyAccess(boardId, email, required);
+    }
 
-        return board;
+    private record BoardVersion(Long boardId, long seq) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.BoardMemberDTO;
+import com.taskflow.api.dto.BoardMemberRequest;
+import com.taskflow.api.model.Board;
+import com.taskflow.api.model.BoardMember;
+import com.taskflow.api.model.BoardMemberId;
+import com.taskflow.api.model.BoardRole;
+import com.taskflow.api.model.User;
+import com.taskflow.api.repository.BoardMemberRepository;
+import com.taskflow.api.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Board sharing. Admins manage members; the owner always stays an admin, and any member may leave.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardMemberService {
+    private final BoardMemberRepository boardMemberRepository;
+    private final UserRepository userRepository;
+    private final BoardAccessService boardAccessService;
+    private final CacheInvalidationService cacheInvalidationService;
+
+    @Transactional(readOnly = true)
+    public List<BoardMemberDTO> getMembers(Long boardId, String email) {
+        Board board = boardAccessService.verifyAccess(boardId, email, BoardRole.VIEWER);
+
+        return boardMemberRepository.findByBoardIdWithUser(boardId)
+                .stream()
+                .map(member -> BoardMemberDTO.fromBoardMember(member, board.getOwner().getId()))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public BoardMemberDTO addMember(Long boardId, BoardMemberRequest request, String email) {
+        Board board = boardAccessService.verifyAccess(boardId, email, BoardRole.ADMIN);
+        if (request.getEmail() == null || request.getEmail().isBlank()) {
+            throw new RuntimeException("Member email is required");
+        }
+        User user = userRepository.findByEmail(request.getEmail())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        BoardMemberId id = new BoardMemberId(boardId, user.getId());
+        if (boardMemberRepository.existsById(id)) {
+            throw new RuntimeException("User is already a member of this board");
+        }
+
+        BoardMember member = boardMemberRepository.save(BoardMember.builder()
+                .id(id)
+                .board(board)
+                .user(user)
+                .role(request.getRole())
+                .build());
+        return BoardMemberDTO.fromBoardMember(member, board.getOwner().getId());
+    }
+
+    @Transactional
+    public BoardMemberDTO updateMember(Long boardId, Long userId, BoardMemberRequest request, String email) {
+        Board board = boardAccessService.verifyAccess(boardId, email, BoardRole.ADMIN);
+        if (board.getOwner().getId().equals(userId)) {
+            throw new RuntimeException("The board owner's role cannot be changed");
+        }
+
+        BoardMember member = boardMemberRepository.findById(new BoardMemberId(boardId, userId))
+                .orElseThrow(() -> new RuntimeException("Member not found"));
+        member.setRole(request.getRole());
+
+        BoardMember updatedMember = boardMemberRepository.save(member);
+        cacheInvalidationService.publishMembership(boardId, userId);
+        return BoardMemberDTO.fromBoardMember(updatedMember, board.getOwner().getId());
+    }
+
+    @Transactional
+    public void removeMember(Long boardId, Long userId, String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        Board board = boardAccessService.verifyAccess(boardId, email,
+                user.getId().equals(userId) ? BoardRole.VIEWER : BoardRole.ADMIN);
+        if (board.getOwner().getId().equals(userId)) {
+            throw new RuntimeException("The board owner cannot be removed");
+        }
+
+        BoardMember member = boardMemberRepository.findById(new BoardMemberId(boardId, userId))
+                .orElseThrow(() -> new RuntimeException("Member not found"));
+
+        boardMemberRepository.delete(member);
+        cacheInvalidationService.publishMembership(boardId, userId);
+    }
+
+    /**
+     * Makes the creator of a new board its admin.
+     */
+    public void addOwner(Board board) {
+        boardMemberRepository.save(BoardMember.builder()
+                .id(new BoardMemberId(board.getId(), board.getOwner().getId()))
+                .board(board)
+                .user(board.getOwner())
+                .role(BoardRole.ADMIN)
+                .build());
+    }
+}
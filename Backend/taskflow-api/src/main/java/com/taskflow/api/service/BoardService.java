@@ -2,13 +2,22 @@
 package com.taskflow.api.service;
 
 import com.taskflow.api.dto.BoardDTO;
+import com.taskflow.api.dto.BoardDeletionStatusDTO;
+import com.taskflow.api.dto.CopyBoardRequest;
 import com.taskflow.api.dto.CreateBoardRequest;
+import com.taskflow.api.event.BoardChangeEvent;
+import com.taskflow.api.event.BoardChangeEvent.Action;
+import com.taskflow.api.event.BoardChangeEvent.EntityType;
 import com.taskflow.api.model.Board;
+import com.taskflow.api.model.BoardRole;
 import com.taskflow.api.model.User;
+import com.taskflow.api.repository.BoardMemberRepository;
 import com.taskflow.api.repository.BoardRepository;
 import com.taskflow.api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -18,17 +27,29 @@ import java.util.stream.Collectors;
 public class BoardService {
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
-
+    private final BoardMemberRepository boardMemberRepository;
+    private final BoardAccessService boardAccessService;
+    private final BoardMemberService boardMemberService;
+    private final WorkspaceService workspaceService;
+    private final BoardDeletionService boardDeletionService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Boards the user owns or was added to, newest first, read through the members' (user_id, board_id)
+     * index.
+     */
+    @Transactional(readOnly = true)
     public List<BoardDTO> getBoardsByUser(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        return boardRepository.findByOwnerOrderByCreatedAtDesc(user)
+        return boardMemberRepository.findActiveByUserId(user.getId())
                 .stream()
-                .map(BoardDTO::fromBoard)
+                .map(BoardDTO::fromMembership)
                 .collect(Collectors.toList());
     }
 
+    @Transactional
     public BoardDTO createBoard(CreateBoardRequest request, String ownerEmail) {
         User owner = userRepository.findByEmail(ownerEmail)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -36,62 +57,76 @@ public class BoardService {
         Board board = Board.builder()
                 .title(request.getTitle())
                 .backgroundColor(request.getBackgroundColor())
-                .workspace(request.getWorkspace() != null ? request.getWorkspace() : "Personal")
+                .workspace(workspaceService.resolve(owner, request.getWorkspace()))
                 .owner(owner)
                 .build();
 
         Board savedBoard = boardRepository.save(board);
+        boardMemberService.addOwner(savedBoard);
         return BoardDTO.fromBoard(savedBoard);
     }
 
-    public BoardDTO getBoard(Long id, String email) {
+    @Transactional
+    public BoardDTO copyBoard(Long id, CopyBoardRequest request, String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Board not found"));
+        Board source = boardAccessService.verifyAccess(id, email, BoardRole.VIEWER);
 
-        if (!board.getOwner().equals(user)) {
-            throw new RuntimeException("You do not have access to this board");
-        }
+        Board copy = Board.builder()
+                .title(request.getTitle() != null ? request.getTitle() : "Copy of " + source.getTitle())
+                .backgroundColor(source.getBackgroundColor())
+                .workspace(workspaceService.resolve(user, request.getWorkspace() != null
+                        ? request.getWorkspace() : source.getWorkspace().getName()))
+                .owner(user)
+                .build();
 
-        return BoardDTO.fromBoard(board);
+        Board savedCopy = boardRepository.saveAndFlush(copy);
+        boardMemberService.addOwner(savedCopy);
+        boardRepository.copyBoardContents(source.getId(), savedCopy.getId());
+        eventPublisher.publishEvent(BoardChangeEvent.of(savedCopy.getId(), EntityType.BOARD, savedCopy.getId(),
+                Action.CREATED, email, "copiedFromBoardId=" + source.getId()));
+        return BoardDTO.fromBoard(savedCopy);
     }
 
-    public BoardDTO updateBoard(Long id, CreateBoardRequest request, String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public BoardDTO getBoard(Long id, String email) {
+        Board board = boardAccessService.verifyAccess(id, email, BoardRole.VIEWER);
 
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Board not found"));
+        return BoardDTO.fromBoard(board);
+    }
 
-        if (!board.getOwner().equals(user)) {
-            throw new RuntimeException("You do not have access to this board");
-        }
+    @Transactional
+    public BoardDTO updateBoard(Long id, CreateBoardRequest request, String email) {
+        Board board = boardAccessService.verifyAccess(id, email, BoardRole.ADMIN);
 
         board.setTitle(request.getTitle());
         if (request.getBackgroundColor() != null) {
             board.setBackgroundColor(request.getBackgroundColor());
         }
         if (request.getWorkspace() != null) {
-            board.setWorkspace(request.getWorkspace());
+            board.setWorkspace(workspaceService.resolve(board.getOwner(), request.getWorkspace()));
         }
 
         Board updatedBoard = boardRepository.save(board);
+        eventPublisher.publishEvent(BoardChangeEvent.of(updatedBoard.getId(), EntityType.BOARD, updatedBoard.getId(),
+                Action.UPDATED, email, null));
         return BoardDTO.fromBoard(updatedBoard);
     }
 
-    public void deleteBoard(Long id, String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Board not found"));
+    public BoardDeletionStatusDTO deleteBoard(Long id, String email, boolean async) {
+        Board board = boardAccessService.verifyAccess(id, email, BoardRole.ADMIN);
 
-        if (!board.getOwner().equals(user)) {
-            throw new RuntimeException("You do not have access to this board");
+        BoardDeletionStatusDTO status = boardDeletionService.markForDeletion(board.getId(), email);
+        if (async) {
+            boardDeletionService.purgeBoardAsync(board.getId());
+            return status;
         }
 
-        boardRepository.delete(board);
+        boardDeletionService.purgeBoard(board.getId());
+        return boardDeletionService.getStatus(board.getId(), email);
+    }
+
+    public BoardDeletionStatusDTO getDeletionStatus(Long id, String email) {
+        return boardDeletionService.getStatus(id, email);
     }
 }
\ No newline at end of file
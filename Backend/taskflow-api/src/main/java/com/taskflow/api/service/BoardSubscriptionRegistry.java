@@ -0,0 +1,122 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.event.CacheInvalidationEvent;
+import com.taskflow.api.event.CacheInvalidationEvent.EntityType;
+import com.taskflow.api.model.BoardMemberId;
+import com.taskflow.api.repository.BoardMemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks which board topics each STOMP session on this node is subscribed to. Access is only checked
+ * when subscribing, so when a membership is removed, here or on another node, the member's subscriptions
+ * to that board are dropped from the broker and the session is closed with an ERROR frame; the client
+ * reconnects and can only resubscribe to boards it still has access to.
+ */
+@Slf4j
+@Service
+public class BoardSubscriptionRegistry {
+    private final MessageChannel clientOutboundChannel;
+    private final MessageChannel brokerChannel;
+    private final BoardMemberRepository boardMemberRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    public BoardSubscriptionRegistry(@Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+                                     @Qualifier("brokerChannel") MessageChannel brokerChannel,
+                                     BoardMemberRepository boardMemberRepository,
+                                     TransactionTemplate transactionTemplate) {
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.brokerChannel = brokerChannel;
+        this.boardMemberRepository = boardMemberRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public void subscribed(String sessionId, String subscriptionId, Long userId, Long boardId) {
+        sessions.computeIfAbsent(sessionId, id -> new Session(userId)).boards.put(subscriptionId, boardId);
+    }
+
+    public void unsubscribed(String sessionId, String subscriptionId) {
+        Session session = sessions.get(sessionId);
+        if (session != null) {
+            session.boards.remove(subscriptionId);
+        }
+    }
+
+    public void disconnected(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    /**
+     * Runs for every membership change; a role change keeps read access, so only sessions of users who
+     * are no longer members are closed.
+     */
+    @EventListener
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event.getEntityType() != EntityType.BOARD_MEMBER || event.getEntityId() == null
+                || event.getUserId() == null) {
+            return;
+        }
+        Long boardId = event.getEntityId();
+        Long userId = event.getUserId();
+        List<Map.Entry<String, Session>> affected = sessions.entrySet().stream()
+                .filter(entry -> entry.getValue().userId.equals(userId)
+                        && entry.getValue().boards.containsValue(boardId))
+                .toList();
+        if (affected.isEmpty()) {
+            return;
+        }
+        // Read-write, so the check goes to the primary rather than a replica that may not have the removal yet.
+        Boolean member = transactionTemplate.execute(status ->
+                boardMemberRepository.existsById(new BoardMemberId(boardId, userId)));
+        if (Boolean.TRUE.equals(member)) {
+            return;
+        }
+
+        for (Map.Entry<String, Session> entry : affected) {
+            revoke(entry.getKey(), entry.getValue(), boardId);
+        }
+    }
+
+    private void revoke(String sessionId, Session session, Long boardId) {
+        session.boards.entrySet().removeIf(subscription -> {
+            if (!subscription.getValue().equals(boardId)) {
+                return false;
+            }
+            SimpMessageHeaderAccessor unsubscribe = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+            unsubscribe.setSessionId(sessionId);
+            unsubscribe.setSubscriptionId(subscription.getKey());
+            brokerChannel.send(MessageBuilder.createMessage(new byte[0], unsubscribe.getMessageHeaders()));
+            return true;
+        });
+
+        StompHeaderAccessor error = StompHeaderAccessor.create(StompCommand.ERROR);
+        error.setSessionId(sessionId);
+        error.setMessage("Access to board " + boardId + " was revoked");
+        clientOutboundChannel.send(MessageBuilder.createMessage(new byte[0], error.getMessageHeaders()));
+        log.info("Closed WebSocket session {} after its user lost access to board {}", sessionId, boardId);
+    }
+
+    private static class Session {
+        private final Long userId;
+        private final Map<String, Long> boards = new ConcurrentHashMap<>();
+
+        private Session(Long userId) {
+            this.userId = userId;
+        }
+    }
+}
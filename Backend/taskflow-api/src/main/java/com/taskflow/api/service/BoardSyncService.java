@@ -0,0 +1,190 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.config.SyncConfig;
+import com.taskflow.api.dto.BoardChangesDTO;
+import com.taskflow.api.dto.BoardDTO;
+import com.taskflow.api.dto.BoardListDTO;
+import com.taskflow.api.dto.CardDTO;
+import com.taskflow.api.dto.ChecklistItemDTO;
+import com.taskflow.api.dto.CommentDTO;
+import com.taskflow.api.dto.ListOrderDTO;
+import com.taskflow.api.dto.TombstoneDTO;
+import com.taskflow.api.event.BoardChangeEvent;
+import com.taskflow.api.event.BoardChangeEvent.Action;
+import com.taskflow.api.model.Board;
+import com.taskflow.api.model.BoardList;
+import com.taskflow.api.repository.BoardChange;
+import com.taskflow.api.repository.BoardListRepository;
+import com.taskflow.api.repository.BoardSyncRepository;
+import com.taskflow.api.repository.BoardSyncState;
+import com.taskflow.api.repository.CardRepository;
+import com.taskflow.api.repository.ChecklistItemRepository;
+import com.taskflow.api.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the per-board change sequence and serves deltas from it. Changes are recorded inside the
+ * mutating transaction, so a client that has seen sequence N and asks again receives every later change.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardSyncService {
+    private static final String BOARD = "BOARD";
+    private static final String LIST = "LIST";
+    private static final String CARD = "CARD";
+    private static final String COMMENT = "COMMENT";
+    private static final String CHECKLIST = "CHECKLIST";
+
+    private final BoardSyncRepository boardSyncRepository;
+    private final BoardListService boardListService;
+    private final BoardListRepository boardListRepository;
+    private final CardRepository cardRepository;
+    private final CommentRepository commentRepository;
+    private final ChecklistItemRepository checklistItemRepository;
+    private final SyncConfig syncConfig;
+    private final LiveBoardService liveBoardService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void recordChange(BoardChangeEvent event) {
+        long seq = boardSyncRepository.nextSeq(event.getBoardId());
+        boolean deleted = event.getAction() == Action.DELETED;
+
+        Map<String, BoardChange> changes = new LinkedHashMap<>();
+        switch (event.getEntityType()) {
+            case BOARD -> add(changes, BOARD, event.getEntityId(), seq, false);
+            case LIST -> {
+                add(changes, LIST, event.getEntityId(), seq, deleted);
+                if (event.getAction() == Action.CREATED || event.getAction() == Action.MOVED || deleted) {
+                    // The board's list order changed.
+                    add(changes, BOARD, event.getBoardId(), seq, false);
+                }
+            }
+            case CARD -> {
+                add(changes, CARD, event.getEntityId(), seq, deleted);
+                if (event.getAction() == Action.CHECKLIST_UPDATED) {
+                    add(changes, CHECKLIST, event.getEntityId(), seq, false);
+                }
+            }
+            case COMMENT -> add(changes, COMMENT, event.getEntityId(), seq, deleted);
+            case CHECKLIST_ITEM -> add(changes, CHECKLIST, event.getCardId(), seq, false);
+        }
+        for (Long listId : event.getReorderedListIds()) {
+            add(changes, LIST, listId, seq, false);
+        }
+
+        boardSyncRepository.upsertChanges(event.getBoardId(), new ArrayList<>(changes.values()));
+        liveBoardService.publish(event, seq);
+    }
+
+    @Transactional(readOnly = true)
+    public BoardChangesDTO getChanges(Long boardId, long since, String email) {
+        Board board = boardListService.getBoardAndVerifyAccess(boardId, email);
+        BoardSyncState state = boardSyncRepository.findState(boardId);
+
+        // Tombstones before compactedSeq are gone, so older clients could miss deletions.
+        if (since <= 0 || since < state.compactedSeq() || since > state.lastSeq()) {
+            return snapshot(board, state.lastSeq());
+        }
+
+        List<BoardChange> changes = boardSyncRepository.findChangesSince(boardId, since, syncConfig.getMaxDeltaSize() + 1);
+        if (changes.size() > syncConfig.getMaxDeltaSize()) {
+            return snapshot(board, state.lastSeq());
+        }
+
+        long seq = changes.stream().mapToLong(BoardChange::seq).max().orElse(since);
+        Map<String, Set<Long>> changedIds = new LinkedHashMap<>();
+        List<TombstoneDTO> deleted = new ArrayList<>();
+        for (BoardChange change : changes) {
+            if (change.deleted()) {
+                deleted.add(new TombstoneDTO(change.entityType(), change.entityId()));
+            } else {
+                changedIds.computeIfAbsent(change.entityType(), type -> new LinkedHashSet<>()).add(change.entityId());
+            }
+        }
+
+        BoardChangesDTO.BoardChangesDTOBuilder delta = BoardChangesDTO.builder()
+                .boardId(boardId)
+                .seq(Math.max(seq, since))
+                .snapshot(false)
+                .deleted(deleted);
+
+        Map<Long, BoardList> lists = new LinkedHashMap<>();
+        if (changedIds.containsKey(BOARD)) {
+            delta.board(BoardDTO.fromBoard(board));
+            boardListRepository.findByBoardOrderByPositionAsc(board).forEach(list -> lists.put(list.getId(), list));
+        }
+        Set<Long> changedListIds = changedIds.getOrDefault(LIST, Set.of());
+        boardListRepository.findAllById(changedListIds).stream()
+                .filter(list -> !list.isArchived() && list.getBoard().getId().equals(boardId))
+                .forEach(list -> lists.putIfAbsent(list.getId(), list));
+
+        delta.lists(lists.values().stream()
+                .map(BoardListDTO::fromBoardListWithoutCards)
+                .collect(Collectors.toList()));
+        delta.listOrders(changedListIds.stream()
+                .filter(lists::containsKey)
+                .map(listId -> ListOrderDTO.builder()
+                        .listId(listId)
+                        .cardIds(cardRepository.findActiveIdsByListIdOrderByPosition(listId))
+                        .build())
+                .collect(Collectors.toList()));
+
+        delta.cards(cardRepository.findAllById(changedIds.getOrDefault(CARD, Set.of())).stream()
+                .filter(card -> !card.isArchived())
+                .map(CardDTO::fromCard)
+                .collect(Collectors.toList()));
+        delta.comments(commentRepository.findAllById(changedIds.getOrDefault(COMMENT, Set.of())).stream()
+                .map(CommentDTO::fromComment)
+                .collect(Collectors.toList()));
+
+        Set<Long> checklistCardIds = changedIds.getOrDefault(CHECKLIST, Set.of());
+        Map<Long, List<ChecklistItemDTO>> checklists = new LinkedHashMap<>();
+        checklistCardIds.forEach(cardId -> checklists.put(cardId, new ArrayList<>()));
+        if (!checklistCardIds.isEmpty()) {
+            checklistItemRepository.findByCardIdIn(checklistCardIds).forEach(item ->
+                    checklists.get(item.getCard().getId()).add(ChecklistItemDTO.fromChecklistItem(item)));
+        }
+        delta.checklists(checklists);
+
+        return delta.build();
+    }
+
+    @Scheduled(cron = "${taskflow.sync.compaction-cron:0 15 3 * * *}")
+    public void compactTombstones() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(syncConfig.getTombstoneRetentionDays());
+        int boards = boardSyncRepository.compactTombstonesBefore(cutoff);
+        if (boards > 0) {
+            log.info("Compacted sync tombstones before {} on {} boards", cutoff, boards);
+        }
+    }
+
+    private BoardChangesDTO snapshot(Board board, long seq) {
+        return BoardChangesDTO.builder()
+                .boardId(board.getId())
+                .seq(seq)
+                .snapshot(true)
+                .board(BoardDTO.fromBoardWithLists(board))
+                .build();
+    }
+
+    private void add(Map<String, BoardChange> changes, String entityType, Long entityId, long seq, boolean deleted) {
+        // An explicit change to an entity wins over a side effect recorded for it in the same event.
+        changes.putIfAbsent(entityType + ":" + entityId, new BoardChange(entityType, entityId, seq, deleted));
+    }
+}
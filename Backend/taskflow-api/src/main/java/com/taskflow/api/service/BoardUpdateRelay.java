@@ -0,0 +1,19 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.BoardUpdateDTO;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries committed board updates to every API node, so viewers get them whichever node they are
+ * connected to. Selected by {@code taskflow.live.relay}.
+ */
+public interface BoardUpdateRelay {
+
+    /**
+     * Sends the update to the consumers of every node, this one included.
+     */
+    void publish(BoardUpdateDTO update);
+
+    void subscribe(Consumer<BoardUpdateDTO> consumer);
+}
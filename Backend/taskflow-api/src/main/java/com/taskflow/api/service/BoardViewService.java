@@ -0,0 +1,86 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.config.GraphQlConfig;
+import com.taskflow.api.dto.BoardDTO;
+import com.taskflow.api.dto.BoardListDTO;
+import com.taskflow.api.dto.CardDTO;
+import com.taskflow.api.dto.ChecklistItemDTO;
+import com.taskflow.api.dto.CommentDTO;
+import com.taskflow.api.model.Board;
+import com.taskflow.api.repository.BoardListRepository;
+import com.taskflow.api.repository.CardRepository;
+import com.taskflow.api.repository.ChecklistItemRepository;
+import com.taskflow.api.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Loaders behind the GraphQL board query. Each method takes every parent id of one level at once (all
+ * lists of the board, all cards of those lists, ...) and answers with one query, so a nested board view
+ * costs one query per selected level whatever the board's size. Each level is capped at
+ * {@code taskflow.graphql.max-rows-per-level}; only the root is access-checked, since every deeper id was
+ * reached from it.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardViewService {
+    private final BoardListService boardListService;
+    private final BoardListRepository boardListRepository;
+    private final CardRepository cardRepository;
+    private final CommentRepository commentRepository;
+    private final ChecklistItemRepository checklistItemRepository;
+    private final GraphQlConfig graphQlConfig;
+
+    @Transactional(readOnly = true)
+    public BoardDTO getBoard(Long boardId, String email) {
+        Board board = boardListService.getBoardAndVerifyAccess(boardId, email);
+        return BoardDTO.fromBoard(board);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, List<BoardListDTO>> getListsByBoardIds(Collection<Long> boardIds) {
+        return checkLevelSize(boardListRepository.findActiveByBoardIdIn(boardIds, levelPage())).stream()
+                .map(BoardListDTO::fromBoardListWithoutCards)
+                .collect(Collectors.groupingBy(BoardListDTO::getBoardId));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, List<CardDTO>> getCardsByListIds(Collection<Long> listIds) {
+        return checkLevelSize(cardRepository.findActiveByListIdIn(listIds, levelPage())).stream()
+                .map(CardDTO::fromCard)
+                .collect(Collectors.groupingBy(CardDTO::getListId));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, List<CommentDTO>> getCommentsByCardIds(Collection<Long> cardIds) {
+        return checkLevelSize(commentRepository.findByCardIdIn(cardIds, levelPage())).stream()
+                .map(CommentDTO::fromComment)
+                .collect(Collectors.groupingBy(CommentDTO::getCardId));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, List<ChecklistItemDTO>> getChecklistItemsByCardIds(Collection<Long> cardIds) {
+        return checkLevelSize(checklistItemRepository.findByCardIdIn(cardIds, levelPage())).stream()
+                .map(ChecklistItemDTO::fromChecklistItem)
+                .collect(Collectors.groupingBy(ChecklistItemDTO::getCardId));
+    }
+
+    // One row more than the cap, so an overrun is detected without counting first.
+    private PageRequest levelPage() {
+        return PageRequest.of(0, graphQlConfig.getMaxRowsPerLevel() + 1);
+    }
+
+    private <T> List<T> checkLevelSize(List<T> rows) {
+        if (rows.size() > graphQlConfig.getMaxRowsPerLevel()) {
+            throw new RuntimeException("Board is too large to load in one query; select fewer levels");
+        }
+        return rows;
+    }
+}
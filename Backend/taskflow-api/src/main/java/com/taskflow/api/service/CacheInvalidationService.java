@@ -0,0 +1,234 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.config.InvalidationConfig;
+import com.taskflow.api.event.BoardChangeEvent;
+import com.taskflow.api.event.BoardChangeEvent.Action;
+import com.taskflow.api.event.CacheInvalidationEvent;
+import com.taskflow.api.event.CacheInvalidationEvent.EntityType;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Invalidation bus between API nodes over PostgreSQL LISTEN/NOTIFY. Services publish (entity type, id,
+ * version), with memberships keyed by board and user, and the change is queued once its transaction commits; queued invalidations are coalesced per
+ * entity and sent in a few NOTIFY payloads. Every node, including the sender, turns them into
+ * {@link CacheInvalidationEvent}s for its in-process caches. Notifications sent while a node is not
+ * listening are lost, so each (re)connect of the listener starts with a full flush.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheInvalidationService {
+    private final PostgresNotificationBus notificationBus;
+    private final ApplicationEventPublisher eventPublisher;
+    private final InvalidationConfig invalidationConfig;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, CacheInvalidationEvent> outgoing = new ConcurrentHashMap<>();
+
+    public void publish(EntityType entityType, Long entityId) {
+        publish(entityType, entityId, System.currentTimeMillis());
+    }
+
+    /**
+     * Queues an invalidation to go out after the current transaction commits (immediately without one).
+     * A null id invalidates every entity of the type.
+     */
+    public void publish(EntityType entityType, Long entityId, long version) {
+        publish(new CacheInvalidationEvent(entityType, entityId, null, version));
+    }
+
+    /**
+     * Queues the invalidation of a single membership, so only that entry is evicted.
+     */
+    public void publishMembership(Long boardId, Long userId) {
+        publish(new CacheInvalidationEvent(EntityType.BOARD_MEMBER, boardId, userId, System.currentTimeMillis()));
+    }
+
+    private void publish(CacheInvalidationEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event);
+                }
+            });
+        } else {
+            enqueue(event);
+        }
+    }
+
+    @EventListener
+    public void onBoardChange(BoardChangeEvent event) {
+        long version = event.getOccurredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        switch (event.getEntityType()) {
+            case BOARD -> publish(EntityType.BOARD, event.getBoardId(), version);
+            // Creating, moving or removing a list shifts its siblings' positions in bulk.
+            case LIST -> {
+                if (event.getAction() == Action.UPDATED) {
+                    publish(EntityType.LIST, event.getEntityId(), version);
+                } else if (event.getAction() == Action.CREATED || event.getAction() == Action.MOVED
+                        || event.getAction() == Action.DELETED) {
+                    publish(EntityType.LIST, null, version);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Applies and sends what committed since the last run.
+     */
+    @Scheduled(fixedDelayString = "${taskflow.invalidation.coalesce-millis:50}")
+    public void sendPending() {
+        if (outgoing.isEmpty()) {
+            return;
+        }
+        List<CacheInvalidationEvent> batch = new ArrayList<>();
+        for (String key : outgoing.keySet()) {
+            CacheInvalidationEvent event = outgoing.remove(key);
+            if (event != null) {
+                batch.add(event);
+            }
+        }
+        dispatch(coalesce(batch));
+
+        if (!invalidationConfig.isEnabled()) {
+            return;
+        }
+        for (String payload : encode(batch)) {
+            notificationBus.send(invalidationConfig.getChannel(), payload);
+        }
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (!invalidationConfig.isEnabled()) {
+            return;
+        }
+        notificationBus.subscribe(invalidationConfig.getChannel(), new PostgresNotificationBus.Handler() {
+            @Override
+            public void onNotifications(List<String> payloads) {
+                Map<String, CacheInvalidationEvent> received = new LinkedHashMap<>();
+                decode(payloads, received);
+                dispatch(coalesce(received.values()));
+            }
+
+            @Override
+            public void onReconnect() {
+                dispatch(List.of(CacheInvalidationEvent.flushAll()));
+            }
+        });
+    }
+
+    private void enqueue(CacheInvalidationEvent event) {
+        outgoing.merge(key(event), event, (current, next) -> current.getVersion() >= next.getVersion() ? current : next);
+    }
+
+    private void dispatch(Collection<CacheInvalidationEvent> events) {
+        for (CacheInvalidationEvent event : events) {
+            try {
+                eventPublisher.publishEvent(event);
+            } catch (RuntimeException ex) {
+                log.error("Cache invalidation listener failed for {}", event, ex);
+            }
+        }
+    }
+
+    /**
+     * A flush of a type covers its single entities, a full flush covers everything, and oversized batches
+     * are collapsed to per-type flushes.
+     */
+    private List<CacheInvalidationEvent> coalesce(Collection<CacheInvalidationEvent> events) {
+        Set<EntityType> flushedTypes = EnumSet.noneOf(EntityType.class);
+        for (CacheInvalidationEvent event : events) {
+            if (event.isFlushAll()) {
+                return List.of(event);
+            }
+            if (event.getEntityId() == null) {
+                flushedTypes.add(event.getEntityType());
+            }
+        }
+        if (events.size() > invalidationConfig.getMaxKeysPerBatch()) {
+            events.forEach(event -> flushedTypes.add(event.getEntityType()));
+        }
+
+        long now = System.currentTimeMillis();
+        List<CacheInvalidationEvent> result = new ArrayList<>();
+        flushedTypes.forEach(type -> result.add(new CacheInvalidationEvent(type, null, null, now)));
+        for (CacheInvalidationEvent event : events) {
+            if (!flushedTypes.contains(event.getEntityType())) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    private List<String> encode(List<CacheInvalidationEvent> events) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(nodeId);
+        for (CacheInvalidationEvent event : events) {
+            String line = "\n" + event.getEntityType() + ":" + (event.getEntityId() != null ? event.getEntityId() : "*")
+                    + (event.getUserId() != null ? ":" + event.getUserId() : "") + ":" + event.getVersion();
+            if (payload.length() + line.length() > PostgresNotificationBus.MAX_PAYLOAD_BYTES) {
+                payloads.add(payload.toString());
+                payload = new StringBuilder(nodeId);
+            }
+            payload.append(line);
+        }
+        payloads.add(payload.toString());
+        return payloads;
+    }
+
+    private void decode(List<String> payloads, Map<String, CacheInvalidationEvent> into) {
+        for (String payload : payloads) {
+            String[] lines = payload.split("\n");
+            if (lines[0].equals(nodeId)) {
+                continue;
+            }
+            try {
+                // TYPE:id:version, or TYPE:boardId:userId:version for a membership.
+                for (int i = 1; i < lines.length; i++) {
+                    String[] parts = lines[i].split(":");
+                    if (parts.length != 3 && parts.length != 4) {
+                        throw new IllegalArgumentException("Unexpected line: " + lines[i]);
+                    }
+                    CacheInvalidationEvent event = new CacheInvalidationEvent(EntityType.valueOf(parts[0]),
+                            "*".equals(parts[1]) ? null : Long.valueOf(parts[1]),
+                            parts.length == 4 ? Long.valueOf(parts[2]) : null, Long.parseLong(parts[parts.length - 1]));
+                    into.merge(key(event), event,
+                            (current, next) -> current.getVersion() >= next.getVersion() ? current : next);
+                }
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+                log.warn("Malformed cache invalidation payload ({} bytes); flushing all caches",
+                        payload.getBytes(StandardCharsets.UTF_8).length);
+                CacheInvalidationEvent flush = CacheInvalidationEvent.flushAll();
+                into.put(key(flush), flush);
+            }
+        }
+    }
+
+    private static String key(CacheInvalidationEvent event) {
+        return event.getEntityType() + ":" + event.getEntityId() + ":" + event.getUserId();
+    }
+}
@@ -1,28 +1,46 @@
 package com.taskflow.api.service;
 
 import com.taskflow.api.dto.CardDTO;
+import com.taskflow.api.dto.CardField;
 import com.taskflow.api.dto.CreateCardRequest;
+import com.taskflow.api.dto.ProjectableField;
+import com.taskflow.api.dto.UpcomingCardsDTO;
+import com.taskflow.api.event.BoardChangeEvent;
+import com.taskflow.api.event.BoardChangeEvent.Action;
+import com.taskflow.api.event.BoardChangeEvent.EntityType;
 import com.taskflow.api.model.BoardList;
+import com.taskflow.api.model.BoardRole;
 import com.taskflow.api.model.Card;
 import com.taskflow.api.repository.BoardListRepository;
 import com.taskflow.api.repository.CardRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CardService {
+    private static final int MAX_UPCOMING_PAGE_SIZE = 200;
+
     private final CardRepository cardRepository;
     private final BoardListRepository boardListRepository;
     private final BoardListService boardListService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<CardDTO> getCardsByList(Long listId, String email) {
-        BoardList list = getListAndVerifyAccess(listId, email);
+        BoardList list = getListAndVerifyAccess(listId, email, BoardRole.VIEWER);
 
         return cardRepository.findByListOrderByPositionAsc(list)
                 .stream()
@@ -30,9 +48,53 @@ public class CardService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getCardFieldsByList(Long listId, String fields, String email) {
+        getListAndVerifyAccess(listId, email, BoardRole.VIEWER);
+
+        return cardRepository.findActiveFieldsByListIds(List.of(listId),
+                        ProjectableField.parse(fields, CardField.class, CardField.ID))
+                .get(listId);
+    }
+
+    @Transactional(readOnly = true)
+    public UpcomingCardsDTO getUpcomingCards(String email, LocalDateTime from, LocalDateTime to,
+                                             String cursor, int limit) {
+        LocalDateTime windowStart = from != null ? from : LocalDateTime.now();
+        LocalDateTime windowEnd = to != null ? to : windowStart.plusDays(7);
+        int pageSize = Math.max(1, Math.min(limit, MAX_UPCOMING_PAGE_SIZE));
+
+        LocalDateTime afterDueDate = windowStart;
+        Long afterId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", 2);
+                afterDueDate = LocalDateTime.parse(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException ex) {
+                throw new RuntimeException("Invalid cursor");
+            }
+        }
+
+        List<Card> cards = cardRepository.findUpcomingForMember(
+                email, windowStart, windowEnd, afterDueDate, afterId, PageRequest.of(0, pageSize));
+
+        String nextCursor = null;
+        if (cards.size() == pageSize) {
+            Card last = cards.get(cards.size() - 1);
+            nextCursor = encodeCursor(last.getDueDate(), last.getId());
+        }
+
+        return UpcomingCardsDTO.builder()
+                .cards(cards.stream().map(CardDTO::fromCard).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     @Transactional
     public CardDTO createCard(CreateCardRequest request, String email) {
-        BoardList list = getListAndVerifyAccess(request.getListId(), email);
+        BoardList list = getListAndVerifyAccess(request.getListId(), email, BoardRole.EDITOR);
 
         if (request.getPosition() == null) {
             List<Card> cards = cardRepository.findByListOrderByPositionAsc(list);
@@ -51,15 +113,17 @@ public class CardService {
                 .build();
 
         Card savedCard = cardRepository.save(card);
+        publish(savedCard, Action.CREATED, email, "listId=" + list.getId() + " position=" + savedCard.getPosition(),
+                Set.of(list.getId()));
         return CardDTO.fromCard(savedCard);
     }
 
     @Transactional
     public CardDTO updateCard(Long cardId, CreateCardRequest request, String email) {
-        Card card = cardRepository.findById(cardId)
+        Card card = cardRepository.findActiveById(cardId)
                 .orElseThrow(() -> new RuntimeException("Card not found"));
 
-        BoardList currentList = getListAndVerifyAccess(card.getList().getId(), email);
+        BoardList currentList = getListAndVerifyAccess(card.getList().getId(), email, BoardRole.EDITOR);
 
 
         Integer oldPosition = card.getPosition();
@@ -71,13 +135,23 @@ public class CardService {
             card.setDescription(request.getDescription());
         }
         if (request.getDueDate() != null) {
+            if (!request.getDueDate().equals(card.getDueDate())) {
+                card.setReminderSent(false);
+            }
             card.setDueDate(request.getDueDate());
         }
 
 
+        Action action = Action.UPDATED;
         if (request.getListId() != null && !request.getListId().equals(oldListId)) {
 
-            BoardList newList = getListAndVerifyAccess(request.getListId(), email);
+            BoardList newList = getListAndVerifyAccess(request.getListId(), email, BoardRole.EDITOR);
+            if (!newList.getBoard().getId().equals(currentList.getBoard().getId())) {
+                throw new RuntimeException("Cards can only be moved between lists of the same board");
+            }
+
+
+            shiftCardsAfterRemoval(currentList, oldPosition);
 
             if (request.getPosition() != null) {
 
@@ -90,35 +164,44 @@ public class CardService {
             }
 
 
-            shiftCardsAfterRemoval(currentList, oldPosition);
-
-
             card.setList(newList);
+            action = Action.MOVED;
         } else if (request.getPosition() != null && !request.getPosition().equals(oldPosition)) {
 
             handlePositionChange(currentList, oldPosition, request.getPosition());
             card.setPosition(request.getPosition());
+            action = Action.MOVED;
         }
 
         Card updatedCard = cardRepository.save(card);
+        Long newListId = updatedCard.getList().getId();
+        if (action == Action.MOVED) {
+            publish(updatedCard, action, email, "fromListId=" + oldListId + " toListId=" + newListId
+                    + " position=" + updatedCard.getPosition(), Set.of(oldListId, newListId));
+        } else {
+            publish(updatedCard, action, email, null, Set.of());
+        }
         return CardDTO.fromCard(updatedCard);
     }
 
     @Transactional
     public void deleteCard(Long cardId, String email) {
-        Card card = cardRepository.findById(cardId)
+        Card card = cardRepository.findActiveById(cardId)
                 .orElseThrow(() -> new RuntimeException("Card not found"));
 
-        BoardList list = getListAndVerifyAccess(card.getList().getId(), email);
+        BoardList list = getListAndVerifyAccess(card.getList().getId(), email, BoardRole.EDITOR);
 
 
         Integer position = card.getPosition();
 
 
-        cardRepository.delete(card);
+        card.setArchived(true);
+        card.setArchivedAt(LocalDateTime.now());
+        cardRepository.save(card);
 
 
         shiftCardsAfterRemoval(list, position);
+        publish(card, Action.DELETED, email, "listId=" + list.getId(), Set.of(list.getId()));
     }
 
 
@@ -136,15 +219,7 @@ public class CardService {
     }
 
     private void shiftCardsAfterRemoval(BoardList list, Integer position) {
-        List<Card> cardsToShift = cardRepository.findByListOrderByPositionAsc(list)
-                .stream()
-                .filter(card -> card.getPosition() > position)
-                .collect(Collectors.toList());
-
-        for (Card card : cardsToShift) {
-            card.setPosition(card.getPosition() - 1);
-            cardRepository.save(card);
-        }
+        cardRepository.shiftActivePositionsAfter(list, position);
     }
 
     private void handlePositionChange(BoardList list, Integer oldPosition, Integer newPosition) {
@@ -173,11 +248,28 @@ public class CardService {
         }
     }
 
-    private BoardList getListAndVerifyAccess(Long listId, String email) {
-        BoardList list = boardListRepository.findById(listId)
+    private void publish(Card card, Action action, String email, String details, Set<Long> reorderedListIds) {
+        eventPublisher.publishEvent(BoardChangeEvent.builder()
+                .boardId(card.getList().getBoard().getId())
+                .entityType(EntityType.CARD)
+                .entityId(card.getId())
+                .action(action)
+                .actorEmail(email)
+                .details(details)
+                .reorderedListIds(reorderedListIds)
+                .build());
+    }
+
+    private String encodeCursor(LocalDateTime dueDate, Long id) {
+        String raw = dueDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private BoardList getListAndVerifyAccess(Long listId, String email, BoardRole required) {
+        BoardList list = boardListRepository.findActiveById(listId)
                 .orElseThrow(() -> new RuntimeException("List not found"));
 
-        boardListService.getListsByBoard(list.getBoard().getId(), email);
+        boardListService.getBoardAndVerifyAccess(list.getBoard().getId(), email, required);
 
         return list;
     }
@@ -191,12 +283,16 @@ public class CardService {
 
 
     public Card getCardAndVerifyAccess(Long cardId, String email) {
-        Card card = cardRepository.findById(cardId)
+        return getCardAndVerifyAccess(cardId, email, BoardRole.VIEWER);
+    }
+
+    public Card getCardAndVerifyAccess(Long cardId, String email, BoardRole required) {
+        Card card = cardRepository.findActiveById(cardId)
                 .orElseThrow(() -> new RuntimeException("Card not found"));
 
 
         BoardList list = card.getList();
-        boardListService.getListsByBoard(list.getBoard().getId(), email);
+        boardListService.getBoardAndVerifyAccess(list.getBoard().getId(), email, required);
 
         return card;
     }
@@ -2,17 +2,27 @@
 
 package com.taskflow.api.service;
 
+import com.taskflow.api.dto.BulkChecklistUpdateRequest;
 import com.taskflow.api.dto.ChecklistItemDTO;
 import com.taskflow.api.dto.CreateChecklistItemRequest;
+import com.taskflow.api.event.BoardChangeEvent;
+import com.taskflow.api.event.BoardChangeEvent.Action;
+import com.taskflow.api.event.BoardChangeEvent.EntityType;
+import com.taskflow.api.model.BoardRole;
 import com.taskflow.api.model.Card;
 import com.taskflow.api.model.ChecklistItem;
 import com.taskflow.api.repository.CardRepository;
 import com.taskflow.api.repository.ChecklistItemRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,6 +31,7 @@ public class ChecklistItemService {
     private final ChecklistItemRepository checklistItemRepository;
     private final CardRepository cardRepository;
     private final CardService cardService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<ChecklistItemDTO> getChecklistItemsByCard(Long cardId, String email) {
@@ -33,7 +44,7 @@ public class ChecklistItemService {
 
     @Transactional
     public ChecklistItemDTO createChecklistItem(CreateChecklistItemRequest request, String email) {
-        Card card = cardService.getCardAndVerifyAccess(request.getCardId(), email);
+        Card card = cardService.getCardAndVerifyAccess(request.getCardId(), email, BoardRole.EDITOR);
 
         if (request.getPosition() == null) {
             List<ChecklistItem> items = checklistItemRepository.findByCardOrderByPositionAsc(card);
@@ -50,6 +61,8 @@ public class ChecklistItemService {
                 .build();
 
         ChecklistItem savedItem = checklistItemRepository.save(item);
+        cardRepository.adjustChecklistCounts(card.getId(), 1, savedItem.isCompleted() ? 1 : 0);
+        publish(savedItem, Action.CREATED, email);
         return ChecklistItemDTO.fromChecklistItem(savedItem);
     }
 
@@ -59,8 +72,9 @@ public class ChecklistItemService {
                 .orElseThrow(() -> new RuntimeException("Checklist item not found"));
 
         // Verify access to the card
-        cardService.getCardAndVerifyAccess(item.getCard().getId(), email);
+        cardService.getCardAndVerifyAccess(item.getCard().getId(), email, BoardRole.EDITOR);
 
+        boolean wasCompleted = item.isCompleted();
         item.setContent(request.getContent());
         item.setCompleted(request.isCompleted());
 
@@ -71,21 +85,87 @@ public class ChecklistItemService {
         }
 
         ChecklistItem updatedItem = checklistItemRepository.save(item);
+        if (wasCompleted != updatedItem.isCompleted()) {
+            cardRepository.adjustChecklistCounts(item.getCard().getId(), 0, updatedItem.isCompleted() ? 1 : -1);
+        }
+        publish(updatedItem, Action.UPDATED, email);
         return ChecklistItemDTO.fromChecklistItem(updatedItem);
     }
 
+    /**
+     * Applies a new order and/or completion flags to a card's whole checklist with one access check and
+     * one UPDATE statement.
+     */
+    @Transactional
+    public List<ChecklistItemDTO> bulkUpdateChecklist(Long cardId, BulkChecklistUpdateRequest request, String email) {
+        Card card = cardService.getCardAndVerifyAccess(cardId, email, BoardRole.EDITOR);
+        Map<Long, ChecklistItem> items = checklistItemRepository.findByCardOrderByPositionAsc(card)
+                .stream()
+                .collect(Collectors.toMap(ChecklistItem::getId, Function.identity()));
+
+        Map<Long, Integer> positions = new HashMap<>();
+        if (request.getOrder() != null) {
+            List<Long> order = request.getOrder();
+            if (order.size() != items.size() || !new HashSet<>(order).equals(items.keySet())) {
+                throw new RuntimeException("Order must list every checklist item of the card exactly once");
+            }
+            for (int position = 0; position < order.size(); position++) {
+                if (!Integer.valueOf(position).equals(items.get(order.get(position)).getPosition())) {
+                    positions.put(order.get(position), position);
+                }
+            }
+        }
+
+        Map<Long, Boolean> completed = new HashMap<>();
+        int completedDelta = 0;
+        if (request.getCompleted() != null) {
+            for (Map.Entry<Long, Boolean> entry : request.getCompleted().entrySet()) {
+                ChecklistItem item = items.get(entry.getKey());
+                if (item == null) {
+                    throw new RuntimeException("Checklist item not found");
+                }
+                if (entry.getValue() != null && entry.getValue() != item.isCompleted()) {
+                    completed.put(entry.getKey(), entry.getValue());
+                    completedDelta += entry.getValue() ? 1 : -1;
+                }
+            }
+        }
+
+        if (!positions.isEmpty() || !completed.isEmpty()) {
+            checklistItemRepository.bulkUpdate(card.getId(), positions, completed);
+            if (completedDelta != 0) {
+                cardRepository.adjustChecklistCounts(card.getId(), 0, completedDelta);
+            }
+            eventPublisher.publishEvent(BoardChangeEvent.builder()
+                    .boardId(card.getList().getBoard().getId())
+                    .entityType(EntityType.CARD)
+                    .entityId(card.getId())
+                    .action(Action.CHECKLIST_UPDATED)
+                    .actorEmail(email)
+                    .details("reordered=" + positions.size() + " toggled=" + completed.size())
+                    .cardId(card.getId())
+                    .build());
+        }
+
+        return checklistItemRepository.findByCardOrderByPositionAsc(card)
+                .stream()
+                .map(ChecklistItemDTO::fromChecklistItem)
+                .collect(Collectors.toList());
+    }
+
     @Transactional
     public void deleteChecklistItem(Long itemId, String email) {
         ChecklistItem item = checklistItemRepository.findById(itemId)
                 .orElseThrow(() -> new RuntimeException("Checklist item not found"));
 
-        Card card = cardService.getCardAndVerifyAccess(item.getCard().getId(), email);
+        Card card = cardService.getCardAndVerifyAccess(item.getCard().getId(), email, BoardRole.EDITOR);
 
         // Get position before deleting
         Integer position = item.getPosition();
 
         // Delete the item
         checklistItemRepository.delete(item);
+        cardRepository.adjustChecklistCounts(card.getId(), -1, item.isCompleted() ? -1 : 0);
 
         // Update positions of remaining items
         List<ChecklistItem> itemsToUpdate = checklistItemRepository.findByCardOrderByPositionAsc(card)
@@ -97,6 +177,20 @@ public class ChecklistItemService {
             i.setPosition(i.getPosition() - 1);
             checklistItemRepository.save(i);
         });
+        publish(item, Action.DELETED, email);
+    }
+
+    private void publish(ChecklistItem item, Action action, String email) {
+        Card card = item.getCard();
+        eventPublisher.publishEvent(BoardChangeEvent.builder()
+                .boardId(card.getList().getBoard().getId())
+                .entityType(EntityType.CHECKLIST_ITEM)
+                .entityId(item.getId())
+                .action(action)
+                .actorEmail(email)
+                .details("cardId=" + card.getId() + " completed=" + item.isCompleted())
+                .cardId(card.getId())
+                .build());
     }
 
     private void shiftChecklistItemsForInsert(Card card, Integer newPosition) {
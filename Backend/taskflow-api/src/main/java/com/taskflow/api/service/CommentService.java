@@ -4,6 +4,10 @@ package com.taskflow.api.service;
 
 import com.taskflow.api.dto.CommentDTO;
 import com.taskflow.api.dto.CreateCommentRequest;
+import com.taskflow.api.event.BoardChangeEvent;
+import com.taskflow.api.event.BoardChangeEvent.Action;
+import com.taskflow.api.event.BoardChangeEvent.EntityType;
+import com.taskflow.api.model.BoardRole;
 import com.taskflow.api.model.Card;
 import com.taskflow.api.model.Comment;
 import com.taskflow.api.model.User;
@@ -11,7 +15,9 @@ import com.taskflow.api.repository.CardRepository;
 import com.taskflow.api.repository.CommentRepository;
 import com.taskflow.api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -23,6 +29,7 @@ public class CommentService {
     private final CardRepository cardRepository;
     private final UserRepository userRepository;
     private final CardService cardService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<CommentDTO> getCommentsByCard(Long cardId, String email) {
         Card card = cardService.getCardAndVerifyAccess(cardId, email);
@@ -32,8 +39,9 @@ public class CommentService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional
     public CommentDTO createComment(CreateCommentRequest request, String email) {
-        Card card = cardService.getCardAndVerifyAccess(request.getCardId(), email);
+        Card card = cardService.getCardAndVerifyAccess(request.getCardId(), email, BoardRole.EDITOR);
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
@@ -44,15 +52,18 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        cardRepository.adjustCommentCount(card.getId(), 1);
+        publish(card, savedComment.getId(), Action.CREATED, email);
         return CommentDTO.fromComment(savedComment);
     }
 
+    @Transactional
     public void deleteComment(Long commentId, String email) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new RuntimeException("Comment not found"));
 
 
-        cardService.getCardAndVerifyAccess(comment.getCard().getId(), email);
+        cardService.getCardAndVerifyAccess(comment.getCard().getId(), email, BoardRole.EDITOR);
 
 
         User user = userRepository.findByEmail(email)
@@ -63,5 +74,19 @@ public class CommentService {
         }
 
         commentRepository.delete(comment);
+        cardRepository.adjustCommentCount(comment.getCard().getId(), -1);
+        publish(comment.getCard(), commentId, Action.DELETED, email);
+    }
+
+    private void publish(Card card, Long commentId, Action action, String email) {
+        eventPublisher.publishEvent(BoardChangeEvent.builder()
+                .boardId(card.getList().getBoard().getId())
+                .entityType(EntityType.COMMENT)
+                .entityId(commentId)
+                .action(action)
+                .actorEmail(email)
+                .details("cardId=" + card.getId())
+                .cardId(card.getId())
+                .build());
     }
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.config.DashboardConfig;
+import com.taskflow.api.dto.DashboardBoardDTO;
+import com.taskflow.api.dto.DashboardDTO;
+import com.taskflow.api.dto.DashboardWorkspaceDTO;
+import com.taskflow.api.model.User;
+import com.taskflow.api.repository.DashboardRepository;
+import com.taskflow.api.repository.DashboardRow;
+import com.taskflow.api.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The home page: every board the user can open, grouped by workspace, with list, card and overdue counts
+ * read from the {@code board_stats} materialized view in one query per page.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+    private final DashboardRepository dashboardRepository;
+    private final UserRepository userRepository;
+    private final DashboardConfig dashboardConfig;
+    private final TransactionTemplate transactionTemplate;
+
+    @Transactional(readOnly = true)
+    public DashboardDTO getDashboard(String email, String cursor, int limit) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        int pageSize = Math.max(1, Math.min(limit, dashboardConfig.getMaxPageSize()));
+
+        long afterWorkspaceId = 0;
+        long beforeBoardId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", 2);
+                afterWorkspaceId = Long.parseLong(parts[0]);
+                beforeBoardId = Long.parseLong(parts[1]);
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+                throw new RuntimeException("Invalid cursor");
+            }
+        }
+
+        List<DashboardRow> rows = dashboardRepository.findPage(user.getId(), afterWorkspaceId, beforeBoardId, pageSize);
+
+        Map<Long, DashboardWorkspaceDTO> workspaces = new LinkedHashMap<>();
+        for (DashboardRow row : rows) {
+            workspaces.computeIfAbsent(row.workspaceId(), id -> DashboardWorkspaceDTO.builder()
+                            .id(id)
+                            .name(row.workspaceName())
+                            .boards(new ArrayList<>())
+                            .build())
+                    .getBoards().add(DashboardBoardDTO.fromRow(row));
+        }
+
+        String nextCursor = null;
+        if (rows.size() == pageSize) {
+            DashboardRow last = rows.get(rows.size() - 1);
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    (last.workspaceId() + "|" + last.boardId()).getBytes(StandardCharsets.UTF_8));
+        }
+
+        return DashboardDTO.builder()
+                .workspaces(new ArrayList<>(workspaces.values()))
+                .nextCursor(nextCursor)
+                .statsRefreshedAt(rows.stream()
+                        .map(DashboardRow::statsRefreshedAt)
+                        .filter(Objects::nonNull)
+                        .max(LocalDateTime::compareTo)
+                        .orElse(null))
+                .build();
+    }
+
+    /**
+     * One node refreshes per interval; the others find the lock taken and skip.
+     */
+    @Scheduled(fixedDelayString = "${taskflow.dashboard.refresh-millis:60000}",
+            initialDelayString = "${taskflow.dashboard.refresh-millis:60000}")
+    public void refreshStats() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> dashboardRepository.refreshStats());
+        } catch (DataAccessException ex) {
+            // The next run catches up.
+            log.warn("Dashboard stats refresh failed", ex);
+        }
+    }
+}
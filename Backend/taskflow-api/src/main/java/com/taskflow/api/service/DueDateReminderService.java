@@ -0,0 +1,181 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.config.ReminderConfig;
+import com.taskflow.api.repository.BoardMemberRepository;
+import com.taskflow.api.repository.BoardSyncRepository;
+import com.taskflow.api.repository.CardRepository;
+import com.taskflow.api.repository.ReminderCandidate;
+import com.taskflow.api.repository.ReminderRecipient;
+import com.taskflow.api.util.HierarchicalTimerWheel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Sends due-date reminders from the elected leader node. Every slice the upcoming window of unsent reminders
+ * is loaded in keyset batches into a timer wheel; the wheel is ticked every second, and expired reminders are
+ * collected for a short window. Each burst is then fanned out to the members of the cards' boards, one email
+ * per user, and pushed to the boards' live viewers.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DueDateReminderService {
+    private static final String LEADER_ROLE = "due-date-reminders";
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 3;
+
+    private final CardRepository cardRepository;
+    private final BoardMemberRepository boardMemberRepository;
+    private final BoardSyncRepository boardSyncRepository;
+    private final EmailService emailService;
+    private final LiveBoardService liveBoardService;
+    private final LeaderElectionService leaderElectionService;
+    private final ReminderConfig reminderConfig;
+    private final TransactionTemplate transactionTemplate;
+
+    // The due date each card is scheduled for; a card whose due date changed is scheduled again by the next
+    // slice, and the stale timer is dropped when it fires.
+    private final Map<Long, LocalDateTime> scheduledDueDates = new ConcurrentHashMap<>();
+    private final List<ReminderCandidate> pending = new ArrayList<>();
+    private long firstQueuedAt;
+    private volatile HierarchicalTimerWheel<ReminderCandidate> wheel;
+
+    @Scheduled(fixedDelayString = "${taskflow.reminders.slice-millis:300000}", initialDelay = 10_000)
+    public void loadUpcomingSlice() {
+        if (!reminderConfig.isEnabled() || !leaderElectionService.isLeader(LEADER_ROLE)) {
+            reset();
+            return;
+        }
+        if (wheel == null) {
+            wheel = new HierarchicalTimerWheel<>(reminderConfig.getTickMillis(), WHEEL_SIZE, WHEEL_LEVELS,
+                    System.currentTimeMillis());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Duration slice = Duration.ofMillis(reminderConfig.getSliceMillis());
+        LocalDateTime horizon = now.plusMinutes(reminderConfig.getLeadTimeMinutes()).plus(slice);
+        // Reminders that should have fired during the previous slice (e.g. across a leader change) still go out.
+        LocalDateTime afterDueDate = now.minus(slice);
+        Long afterId = 0L;
+
+        int loaded = 0;
+        List<ReminderCandidate> batch;
+        do {
+            batch = cardRepository.findReminderCandidates(afterDueDate, afterId, horizon,
+                    PageRequest.of(0, reminderConfig.getBatchSize()));
+            for (ReminderCandidate candidate : batch) {
+                LocalDateTime scheduled = scheduledDueDates.put(candidate.getCardId(), candidate.getDueDate());
+                if (!candidate.getDueDate().equals(scheduled)) {
+                    wheel.schedule(candidate, fireAtMillis(candidate));
+                    loaded++;
+                }
+            }
+            if (!batch.isEmpty()) {
+                ReminderCandidate last = batch.get(batch.size() - 1);
+                afterDueDate = last.getDueDate();
+                afterId = last.getCardId();
+            }
+        } while (batch.size() == reminderConfig.getBatchSize());
+
+        if (loaded > 0) {
+            log.debug("Scheduled {} due-date reminders up to {}", loaded, horizon);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${taskflow.reminders.tick-millis:1000}")
+    public synchronized void tick() {
+        HierarchicalTimerWheel<ReminderCandidate> current = wheel;
+        if (current == null) {
+            return;
+        }
+
+        long nowMillis = System.currentTimeMillis();
+        List<ReminderCandidate> expired = current.advance(nowMillis);
+        if (!expired.isEmpty()) {
+            if (pending.isEmpty()) {
+                firstQueuedAt = nowMillis;
+            }
+            pending.addAll(expired);
+        }
+
+        if (!pending.isEmpty() && nowMillis - firstQueuedAt >= reminderConfig.getUserBatchWindowMillis()) {
+            List<ReminderCandidate> burst = new ArrayList<>(pending);
+            pending.clear();
+            send(burst);
+        }
+    }
+
+    private void send(List<ReminderCandidate> reminders) {
+        Map<Long, ReminderCandidate> byId = reminders.stream()
+                .collect(Collectors.toMap(ReminderCandidate::getCardId, reminder -> reminder, (a, b) -> a));
+        reminders.forEach(reminder -> scheduledDueDates.remove(reminder.getCardId(), reminder.getDueDate()));
+
+        // Due dates may have moved or cards been archived since they were loaded; a moved due date has been
+        // (or will be) scheduled again by a slice.
+        List<ReminderCandidate> stillDue = transactionTemplate.execute(status -> {
+            List<ReminderCandidate> current = cardRepository.findPendingRemindersByIds(byId.keySet())
+                    .stream()
+                    .filter(card -> card.getDueDate().equals(byId.get(card.getCardId()).getDueDate()))
+                    .collect(Collectors.toList());
+            if (!current.isEmpty()) {
+                cardRepository.markRemindersSent(current.stream().map(ReminderCandidate::getCardId).toList());
+            }
+            return current;
+        });
+
+        if (stillDue == null || stillDue.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<ReminderCandidate>> byBoard = stillDue.stream()
+                .collect(Collectors.groupingBy(ReminderCandidate::getBoardId));
+        Map<String, List<ReminderCandidate>> byUser = new HashMap<>();
+        for (ReminderRecipient recipient : boardMemberRepository.findReminderRecipients(byBoard.keySet())) {
+            byUser.computeIfAbsent(recipient.getEmail(), email -> new ArrayList<>())
+                    .addAll(byBoard.get(recipient.getBoardId()));
+        }
+        byUser.forEach((email, cards) -> {
+            try {
+                emailService.sendDueDateReminders(email, cards);
+            } catch (RuntimeException ex) {
+                log.warn("Could not send {} due-date reminders to {}", cards.size(), email, ex);
+            }
+        });
+
+        byBoard.forEach((boardId, cards) -> {
+            long seq = boardSyncRepository.findState(boardId).lastSeq();
+            cards.forEach(card -> liveBoardService.publishDueSoon(boardId, card.getCardId(), seq));
+        });
+    }
+
+    private synchronized void reset() {
+        if (wheel != null) {
+            log.info("No longer sending due-date reminders from this node");
+        }
+        wheel = null;
+        scheduledDueDates.clear();
+        pending.clear();
+    }
+
+    private long fireAtMillis(ReminderCandidate candidate) {
+        return candidate.getDueDate()
+                .minusMinutes(reminderConfig.getLeadTimeMinutes())
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+    }
+}
@@ -1,13 +1,20 @@
 package com.taskflow.api.service;
 
+import com.taskflow.api.repository.ReminderCandidate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class EmailService {
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("MMM d, HH:mm");
+
     private final JavaMailSender mailSender;
 
     public void sendVerificationEmail(String to, String verificationCode) {
@@ -17,4 +24,21 @@ public class EmailService {
         message.setText("Your verification code is: " + verificationCode);
         mailSender.send(message);
     }
+
+    @Async
+    public void sendDueDateReminders(String to, List<ReminderCandidate> cards) {
+        StringBuilder text = new StringBuilder("The following cards are due soon:\n\n");
+        for (ReminderCandidate card : cards) {
+            text.append("- ").append(card.getTitle())
+                    .append(" (").append(card.getBoardTitle()).append(") due ")
+                    .append(card.getDueDate().format(DUE_DATE_FORMAT))
+                    .append('\n');
+        }
+
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(to);
+        message.setSubject(cards.size() == 1 ? "Card due soon" : cards.size() + " cards due soon");
+        message.setText(text.toString());
+        mailSender.send(message);
+    }
 }
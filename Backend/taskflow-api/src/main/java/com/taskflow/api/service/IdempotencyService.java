@@ -0,0 +1,86 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.config.IdempotencyConfig;
+import com.taskflow.api.repository.IdempotencyRecord;
+import com.taskflow.api.repository.IdempotencyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Stores the outcome of requests sent with an {@code Idempotency-Key}. Completed responses are cached in a
+ * bounded LRU map in front of the table, so replaying a retry on the same node needs no database access.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+    private final IdempotencyRepository idempotencyRepository;
+    private final IdempotencyConfig idempotencyConfig;
+
+    private final Map<String, IdempotencyRecord> completed = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                    return size() > idempotencyConfig.getCacheSize();
+                }
+            });
+
+    /**
+     * Looks up a completed response in this node's cache only; check it before {@link #claim} so a retry
+     * served from the cache costs no database round trip.
+     */
+    public Optional<IdempotencyRecord> findCached(String owner, String key) {
+        IdempotencyRecord cached = completed.get(cacheKey(owner, key));
+        if (cached != null && cached.expiresAt().isAfter(LocalDateTime.now())) {
+            return Optional.of(cached);
+        }
+        return Optional.empty();
+    }
+
+    public Optional<IdempotencyRecord> find(String owner, String key) {
+        Optional<IdempotencyRecord> cached = findCached(owner, key);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<IdempotencyRecord> stored = idempotencyRepository.find(owner, key);
+        stored.filter(IdempotencyRecord::isCompleted).ifPresent(record -> completed.put(cacheKey(owner, key), record));
+        return stored;
+    }
+
+    public boolean claim(String owner, String key, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        return idempotencyRepository.claim(owner, key, requestHash,
+                now.plusHours(idempotencyConfig.getTtlHours()),
+                now.minusSeconds(idempotencyConfig.getClaimTimeoutSeconds()));
+    }
+
+    public void complete(String owner, String key, String requestHash, int status, String contentType, byte[] body) {
+        idempotencyRepository.complete(owner, key, status, contentType, body);
+        completed.put(cacheKey(owner, key), new IdempotencyRecord(requestHash, status, contentType, body,
+                LocalDateTime.now().plusHours(idempotencyConfig.getTtlHours())));
+    }
+
+    public void release(String owner, String key) {
+        idempotencyRepository.release(owner, key);
+    }
+
+    @Scheduled(cron = "${taskflow.idempotency.purge-cron:0 20 * * * *}")
+    public void purgeExpired() {
+        int purged = idempotencyRepository.deleteExpiredBefore(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private static String cacheKey(String owner, String key) {
+        return owner + '\n' + key;
+    }
+}
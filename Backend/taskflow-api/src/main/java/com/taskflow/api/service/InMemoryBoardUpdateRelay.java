@@ -0,0 +1,28 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.BoardUpdateDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers updates to this node only; for tests and single-node setups.
+ */
+@Service
+@ConditionalOnProperty(prefix = "taskflow.live", name = "relay", havingValue = "memory")
+public class InMemoryBoardUpdateRelay implements BoardUpdateRelay {
+    private final List<Consumer<BoardUpdateDTO>> consumers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(BoardUpdateDTO update) {
+        consumers.forEach(consumer -> consumer.accept(update));
+    }
+
+    @Override
+    public void subscribe(Consumer<BoardUpdateDTO> consumer) {
+        consumers.add(consumer);
+    }
+}
@@ -0,0 +1,92 @@
+package com.taskflow.api.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Elects a single node per named role using PostgreSQL session-level advisory locks. The locks live on one
+ * dedicated connection, so a node that dies or loses its connection releases leadership automatically.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderElectionService {
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource dataSource;
+
+    private final Set<String> heldRoles = new HashSet<>();
+    private Connection connection;
+
+    public synchronized boolean isLeader(String role) {
+        try {
+            if (connection == null || !connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                reconnect();
+            }
+            if (heldRoles.contains(role)) {
+                return true;
+            }
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+                statement.setLong(1, lockKey(role));
+                try (ResultSet result = statement.executeQuery()) {
+                    if (result.next() && result.getBoolean(1)) {
+                        heldRoles.add(role);
+                        log.info("Acquired leadership for {}", role);
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } catch (SQLException ex) {
+            log.warn("Leader election for {} failed; assuming follower", role, ex);
+            closeQuietly();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public synchronized void release() {
+        closeQuietly();
+    }
+
+    private void reconnect() throws SQLException {
+        if (!heldRoles.isEmpty()) {
+            log.warn("Lost leader connection; releasing {}", heldRoles);
+        }
+        closeQuietly();
+        connection = dataSource.getConnection();
+        connection.setAutoCommit(true);
+    }
+
+    private void closeQuietly() {
+        heldRoles.clear();
+        if (connection != null) {
+            // The pool keeps the physical session alive, so drop the locks before handing it back.
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock_all()")) {
+                statement.execute();
+            } catch (SQLException ignored) {
+                // A broken session is evicted by the pool, which releases its locks server-side.
+            }
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // Nothing left to release.
+            }
+            connection = null;
+        }
+    }
+
+    private long lockKey(String role) {
+        return ((long) "taskflow-leader".hashCode() << 32) | (role.hashCode() & 0xffffffffL);
+    }
+}
@@ -0,0 +1,69 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.BoardUpdateDTO;
+import com.taskflow.api.event.BoardChangeEvent;
+import com.taskflow.api.event.BoardChangeEvent.EntityType;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Pushes board updates to WebSocket subscribers of {@code /topic/boards/{id}}. Every node's broker only
+ * knows its own sessions, so updates go through the {@link BoardUpdateRelay} to all nodes and each node
+ * delivers them to whoever is connected to it.
+ */
+@Service
+@RequiredArgsConstructor
+public class LiveBoardService {
+    public static final String TOPIC_PREFIX = "/topic/boards/";
+    public static final String DUE_SOON = "DUE_SOON";
+
+    private final BoardUpdateRelay boardUpdateRelay;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @PostConstruct
+    void subscribe() {
+        boardUpdateRelay.subscribe(update -> messagingTemplate.convertAndSend(TOPIC_PREFIX + update.getBoardId(), update));
+    }
+
+    /**
+     * Relays the change once its transaction commits, so clients never fetch a change that was rolled back.
+     */
+    public void publish(BoardChangeEvent event, long seq) {
+        BoardUpdateDTO update = BoardUpdateDTO.builder()
+                .boardId(event.getBoardId())
+                .seq(seq)
+                .entityType(event.getEntityType().name())
+                .entityId(event.getEntityId())
+                .action(event.getAction().name())
+                .build();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    boardUpdateRelay.publish(update);
+                }
+            });
+        } else {
+            boardUpdateRelay.publish(update);
+        }
+    }
+
+    /**
+     * Tells the board's viewers that a card is due soon. A reminder does not change the board, so it carries
+     * the board's current {@code seq} rather than a new one.
+     */
+    public void publishDueSoon(Long boardId, Long cardId, long seq) {
+        boardUpdateRelay.publish(BoardUpdateDTO.builder()
+                .boardId(boardId)
+                .seq(seq)
+                .entityType(EntityType.CARD.name())
+                .entityId(cardId)
+                .action(DUE_SOON)
+                .build());
+    }
+}
@@ -0,0 +1,39 @@
+package com.taskflow.api.service;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads LISTEN notifications from the dedicated connection {@link PostgresNotificationBus} opens with
+ * {@code DriverManager}, outside the pool, so it is a pgjdbc connection itself.
+ */
+class PgNotificationReader {
+    private final PGConnection pgConnection;
+
+    PgNotificationReader(Connection connection) throws SQLException {
+        this.pgConnection = connection.unwrap(PGConnection.class);
+    }
+
+    /**
+     * Notifications received so far, waiting up to {@code timeoutMillis} (at least 1) for the first one.
+     */
+    List<Notification> poll(int timeoutMillis) throws SQLException {
+        PGNotification[] notifications = pgConnection.getNotifications(Math.max(1, timeoutMillis));
+        List<Notification> payloads = new ArrayList<>();
+        if (notifications == null) {
+            return payloads;
+        }
+        for (PGNotification notification : notifications) {
+            payloads.add(new Notification(notification.getName(), notification.getParameter()));
+        }
+        return payloads;
+    }
+
+    record Notification(String channel, String payload) {
+    }
+}
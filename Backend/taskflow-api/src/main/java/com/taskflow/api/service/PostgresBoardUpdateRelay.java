@@ -0,0 +1,65 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.config.LiveUpdateConfig;
+import com.taskflow.api.dto.BoardUpdateDTO;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Relays updates between nodes over NOTIFY. Each payload is one compact line
+ * ({@code boardId:seq:entityType:entityId:action}); the sender receives its own notifications like every
+ * other node, so all nodes see updates in the same order.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "taskflow.live", name = "relay", havingValue = "postgres", matchIfMissing = true)
+public class PostgresBoardUpdateRelay implements BoardUpdateRelay {
+    private final PostgresNotificationBus notificationBus;
+    private final LiveUpdateConfig liveUpdateConfig;
+
+    private final List<Consumer<BoardUpdateDTO>> consumers = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    void subscribeToChannel() {
+        notificationBus.subscribe(liveUpdateConfig.getChannel(), this::receive);
+    }
+
+    @Override
+    public void publish(BoardUpdateDTO update) {
+        notificationBus.send(liveUpdateConfig.getChannel(), update.getBoardId() + ":" + update.getSeq() + ":"
+                + update.getEntityType() + ":" + update.getEntityId() + ":" + update.getAction());
+    }
+
+    @Override
+    public void subscribe(Consumer<BoardUpdateDTO> consumer) {
+        consumers.add(consumer);
+    }
+
+    private void receive(List<String> payloads) {
+        for (String payload : payloads) {
+            String[] parts = payload.split(":");
+            BoardUpdateDTO update;
+            try {
+                update = BoardUpdateDTO.builder()
+                        .boardId(Long.valueOf(parts[0]))
+                        .seq(Long.parseLong(parts[1]))
+                        .entityType(parts[2])
+                        .entityId("null".equals(parts[3]) ? null : Long.valueOf(parts[3]))
+                        .action(parts[4])
+                        .build();
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException ex) {
+                log.warn("Ignoring malformed board update: {}", payload);
+                continue;
+            }
+            consumers.forEach(consumer -> consumer.accept(update));
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.taskflow.api.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY shared by the node's cross-node channels. Outgoing notifications are queued and
+ * sent by a scheduled flush in one statement, never from a committing thread whose connection is still
+ * bound to the finished transaction. Incoming ones are received on a single dedicated connection outside the
+ * pool, gathered for a short window and handed to the channel's handler in one batch. Notifications sent
+ * while the node is not listening are lost, which handlers learn through {@link Handler#onReconnect()}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostgresNotificationBus {
+    // NOTIFY payloads must stay below 8000 bytes.
+    public static final int MAX_PAYLOAD_BYTES = 7_900;
+    private static final long KEEPALIVE_MILLIS = 30_000;
+    private static final long RECONNECT_MILLIS = 5_000;
+    private static final int POLL_MILLIS = 1_000;
+    private static final int RECEIVE_WINDOW_MILLIS = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+
+    private final Map<String, Handler> handlers = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<PgNotificationReader.Notification> outgoing = new ConcurrentLinkedQueue<>();
+    private volatile boolean running;
+    private volatile Thread listenerThread;
+
+    public interface Handler {
+        void onNotifications(List<String> payloads);
+
+        /**
+         * Called on every (re)connect, before any notification of the new connection is delivered.
+         */
+        default void onReconnect() {
+        }
+    }
+
+    /**
+     * Registers the handler of a channel; must be called before the application is ready.
+     */
+    public void subscribe(String channel, Handler handler) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid notification channel name: " + channel);
+        }
+        handlers.put(channel, handler);
+    }
+
+    public void send(String channel, String payload) {
+        outgoing.add(new PgNotificationReader.Notification(channel, payload));
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.notify.flush-millis:20}")
+    public void flush() {
+        if (outgoing.isEmpty()) {
+            return;
+        }
+        List<PgNotificationReader.Notification> batch = new ArrayList<>();
+        PgNotificationReader.Notification next;
+        while ((next = outgoing.poll()) != null) {
+            batch.add(next);
+        }
+
+        try {
+            jdbcTemplate.query(connection -> {
+                        Array channels = connection.createArrayOf("text",
+                                batch.stream().map(PgNotificationReader.Notification::channel).toArray());
+                        Array payloads = connection.createArrayOf("text",
+                                batch.stream().map(PgNotificationReader.Notification::payload).toArray());
+                        PreparedStatement statement = connection.prepareStatement(
+                                "SELECT pg_notify(c, p) FROM unnest(?::text[], ?::text[]) WITH ORDINALITY AS t(c, p, n) " +
+                                        "ORDER BY n");
+                        statement.setArray(1, channels);
+                        statement.setArray(2, payloads);
+                        return statement;
+                    },
+                    resultSet -> {
+                    });
+        } catch (DataAccessException ex) {
+            log.warn("Could not send {} notifications; retrying", batch.size(), ex);
+            outgoing.addAll(batch);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startListening() {
+        if (handlers.isEmpty()) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::listen, "pg-notification-listener");
+        thread.setDaemon(true);
+        thread.start();
+        listenerThread = thread;
+    }
+
+    @PreDestroy
+    public void stopListening() {
+        running = false;
+        Thread thread = listenerThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    for (String channel : handlers.keySet()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                }
+                PgNotificationReader reader = new PgNotificationReader(connection);
+                handlers.values().forEach(handler -> deliver(handler::onReconnect));
+                log.info("Listening for notifications on {}", handlers.keySet());
+                receive(connection, reader);
+            } catch (SQLException ex) {
+                if (running) {
+                    log.warn("Notification listener disconnected; reconnecting in {}ms", RECONNECT_MILLIS, ex);
+                }
+            }
+
+            if (running) {
+                try {
+                    Thread.sleep(RECONNECT_MILLIS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receive(Connection connection, PgNotificationReader reader) throws SQLException {
+        long lastCheck = System.currentTimeMillis();
+        while (running) {
+            List<PgNotificationReader.Notification> received = new ArrayList<>(reader.poll(POLL_MILLIS));
+            if (!received.isEmpty()) {
+                // Keep collecting for a short window so a burst is handled once.
+                long deadline = System.currentTimeMillis() + RECEIVE_WINDOW_MILLIS;
+                long remaining;
+                while ((remaining = deadline - System.currentTimeMillis()) > 0) {
+                    received.addAll(reader.poll((int) remaining));
+                }
+
+                Map<String, List<String>> byChannel = new LinkedHashMap<>();
+                for (PgNotificationReader.Notification notification : received) {
+                    byChannel.computeIfAbsent(notification.channel(), channel -> new ArrayList<>())
+                            .add(notification.payload());
+                }
+                byChannel.forEach((channel, payloads) -> {
+                    Handler handler = handlers.get(channel);
+                    if (handler != null) {
+                        deliver(() -> handler.onNotifications(payloads));
+                    }
+                });
+            }
+
+            long now = System.currentTimeMillis();
+            if (now - lastCheck > KEEPALIVE_MILLIS) {
+                if (!connection.isValid(5)) {
+                    throw new SQLException("Notification connection is no longer valid");
+                }
+                lastCheck = now;
+            }
+        }
+    }
+
+    private void deliver(Runnable delivery) {
+        try {
+            delivery.run();
+        } catch (RuntimeException ex) {
+            log.error("Notification handler failed", ex);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.taskflow.api.service;
+
+/**
+ * Rate limiter counters, exposed over JMX as {@code com.taskflow.api:type=RateLimiter}.
+ */
+public interface RateLimitMetricsMXBean {
+    long getAuthAllowed();
+
+    long getAuthRejected();
+
+    long getAuthIpAllowed();
+
+    long getAuthIpRejected();
+
+    long getWriteAllowed();
+
+    long getWriteRejected();
+
+    int getTrackedKeys();
+
+    long getSharedSyncFailures();
+}
@@ -0,0 +1,271 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.config.RateLimitConfig;
+import com.taskflow.api.repository.RateLimitRepository;
+import com.taskflow.api.util.TokenBucket;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Token-bucket rate limiting per budget and client key. Buckets are kept in memory, so the common path is
+ * a map lookup and a compare-and-set. With {@code taskflow.rate-limit.shared} on, each node periodically adds
+ * its consumption to a shared per-window counter and drains what the other nodes spent from its local
+ * buckets; if the store is unreachable the local buckets keep limiting on their own.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RateLimiterService implements RateLimitMetricsMXBean {
+    private static final String OBJECT_NAME = "com.taskflow.api:type=RateLimiter";
+
+    public enum Budget {
+        AUTH, AUTH_IP, WRITE
+    }
+
+    private final RateLimitConfig rateLimitConfig;
+    private final RateLimitRepository rateLimitRepository;
+
+    private final Map<Budget, Map<String, Entry>> buckets = Map.of(
+            Budget.AUTH, new ConcurrentHashMap<>(),
+            Budget.AUTH_IP, new ConcurrentHashMap<>(),
+            Budget.WRITE, new ConcurrentHashMap<>());
+    private final Map<Budget, LongAdder> allowed = Map.of(
+            Budget.AUTH, new LongAdder(), Budget.AUTH_IP, new LongAdder(), Budget.WRITE, new LongAdder());
+    private final Map<Budget, LongAdder> rejected = Map.of(
+            Budget.AUTH, new LongAdder(), Budget.AUTH_IP, new LongAdder(), Budget.WRITE, new LongAdder());
+    private final LongAdder sharedSyncFailures = new LongAdder();
+
+    /**
+     * Takes one request from the key's budget. Returns 0 if allowed, otherwise the nanoseconds to wait.
+     */
+    public long tryAcquire(Budget budget, String key) {
+        long now = System.nanoTime();
+        Map<String, Entry> entries = buckets.get(budget);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            if (entries.size() >= rateLimitConfig.getMaxKeys()) {
+                evict(entries, now);
+            }
+            RateLimitConfig.Budget limits = limits(budget);
+            entry = entries.computeIfAbsent(key, k -> new Entry(new TokenBucket(limits.getCapacity(),
+                    TimeUnit.SECONDS.toNanos(limits.getRefillPeriodSeconds()), now)));
+        }
+
+        entry.lastUsedNanos = now;
+        long wait = entry.bucket.tryAcquire(now);
+        if (wait == 0) {
+            allowed.get(budget).increment();
+            if (rateLimitConfig.isShared()) {
+                entry.pending.increment();
+            }
+        } else {
+            rejected.get(budget).increment();
+        }
+        return wait;
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.rate-limit.sync-millis:1000}")
+    public void syncSharedUsage() {
+        if (!rateLimitConfig.isShared()) {
+            return;
+        }
+        for (Budget budget : Budget.values()) {
+            try {
+                syncBudget(budget);
+            } catch (DataAccessException ex) {
+                sharedSyncFailures.increment();
+                log.warn("Could not sync {} rate limits; limiting locally", budget, ex);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().forEach(entries -> entries.values().removeIf(entry -> entry.isIdle(now)));
+
+        if (rateLimitConfig.isShared()) {
+            long oldestPeriod = Arrays.stream(Budget.values())
+                    .mapToLong(budget -> limits(budget).getRefillPeriodSeconds())
+                    .max()
+                    .orElse(0);
+            try {
+                rateLimitRepository.deleteWindowsBefore(nowSeconds() - 2 * oldestPeriod);
+            } catch (DataAccessException ex) {
+                sharedSyncFailures.increment();
+                log.warn("Could not delete old rate limit windows", ex);
+            }
+        }
+    }
+
+    private void syncBudget(Budget budget) {
+        long period = limits(budget).getRefillPeriodSeconds();
+        long window = nowSeconds() / period * period;
+
+        List<String> keys = new ArrayList<>();
+        List<Long> used = new ArrayList<>();
+        List<Entry> synced = new ArrayList<>();
+        buckets.get(budget).forEach((key, entry) -> {
+            long pending = entry.pending.sumThenReset();
+            if (pending > 0) {
+                keys.add(budget.name() + ":" + key);
+                used.add(pending);
+                synced.add(entry);
+            }
+        });
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> totals = rateLimitRepository.addUsage(window, keys, used);
+        long now = System.nanoTime();
+        for (int i = 0; i < keys.size(); i++) {
+            Entry entry = synced.get(i);
+            Long total = totals.get(keys.get(i));
+            if (total == null) {
+                continue;
+            }
+            if (entry.window != window) {
+                entry.window = window;
+                entry.accounted = 0;
+            }
+            entry.bucket.drain(total - entry.accounted - used.get(i), now);
+            entry.accounted = total;
+        }
+    }
+
+    private void evict(Map<String, Entry> entries, long now) {
+        synchronized (entries) {
+            if (entries.size() < rateLimitConfig.getMaxKeys()) {
+                return;
+            }
+            // Full buckets with nothing left to sync carry no state, so dropping them is lossless.
+            entries.values().removeIf(entry -> entry.isIdle(now));
+            if (entries.size() < rateLimitConfig.getMaxKeys()) {
+                return;
+            }
+            // Every bucket is in use: give up the least recently used ones, in one batch so a flood of new
+            // keys does not rescan the map on every insert. Unsynced usage stays until the next sync.
+            int excess = entries.size() - rateLimitConfig.getMaxKeys() * 9 / 10;
+            entries.entrySet().stream()
+                    .filter(e -> e.getValue().pending.sum() == 0)
+                    .sorted(Comparator.comparingLong(e -> e.getValue().lastUsedNanos - now))
+                    .limit(excess)
+                    .collect(Collectors.toList())
+                    .forEach(e -> entries.remove(e.getKey(), e.getValue()));
+        }
+    }
+
+    private RateLimitConfig.Budget limits(Budget budget) {
+        return switch (budget) {
+            case AUTH -> rateLimitConfig.getAuth();
+            case AUTH_IP -> rateLimitConfig.getAuthIp();
+            case WRITE -> rateLimitConfig.getWrite();
+        };
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    @PostConstruct
+    void registerMBean() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (JMException ex) {
+            log.warn("Could not register rate limiter MBean", ex);
+        }
+    }
+
+    @PreDestroy
+    void unregisterMBean() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            }
+        } catch (JMException ex) {
+            log.debug("Could not unregister rate limiter MBean", ex);
+        }
+    }
+
+    @Override
+    public long getAuthAllowed() {
+        return allowed.get(Budget.AUTH).sum();
+    }
+
+    @Override
+    public long getAuthRejected() {
+        return rejected.get(Budget.AUTH).sum();
+    }
+
+    @Override
+    public long getAuthIpAllowed() {
+        return allowed.get(Budget.AUTH_IP).sum();
+    }
+
+    @Override
+    public long getAuthIpRejected() {
+        return rejected.get(Budget.AUTH_IP).sum();
+    }
+
+    @Override
+    public long getWriteAllowed() {
+        return allowed.get(Budget.WRITE).sum();
+    }
+
+    @Override
+    public long getWriteRejected() {
+        return rejected.get(Budget.WRITE).sum();
+    }
+
+    @Override
+    public int getTrackedKeys() {
+        return buckets.values().stream().mapToInt(Map::size).sum();
+    }
+
+    @Override
+    public long getSharedSyncFailures() {
+        return sharedSyncFailures.sum();
+    }
+
+    private static class Entry {
+        private final TokenBucket bucket;
+        private final LongAdder pending = new LongAdder();
+        private volatile long lastUsedNanos;
+        // Only touched by the sync task.
+        private long window;
+        private long accounted;
+
+        Entry(TokenBucket bucket) {
+            this.bucket = bucket;
+        }
+
+        boolean isIdle(long now) {
+            return bucket.isFull(now) && pending.sum() == 0;
+        }
+    }
+}
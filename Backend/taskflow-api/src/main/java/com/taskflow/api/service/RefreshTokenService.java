@@ -0,0 +1,126 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.config.JwtConfig;
+import com.taskflow.api.exception.InvalidCredentialsException;
+import com.taskflow.api.model.RefreshToken;
+import com.taskflow.api.model.User;
+import com.taskflow.api.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Issues and rotates opaque refresh tokens. Tokens are high-entropy random values, so a single SHA-256
+ * hash is enough to store them safely and look them up by index, without BCrypt on the refresh path.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtConfig jwtConfig;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    /**
+     * Starts a new token family, e.g. on login.
+     */
+    @Transactional
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for its successor. Reusing a rotated token is treated as theft and
+     * revokes every token of its family.
+     */
+    @Transactional(noRollbackFor = InvalidCredentialsException.class)
+    public RotatedToken rotate(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            throw new InvalidCredentialsException("Refresh token is required");
+        }
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new InvalidCredentialsException("Invalid refresh token"));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (token.getExpiresAt().isBefore(now)) {
+            throw new InvalidCredentialsException("Refresh token expired");
+        }
+        // The conditional update also catches two requests racing with the same token.
+        if (token.getRevokedAt() != null || refreshTokenRepository.revokeIfActive(token.getId(), now) == 0) {
+            refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+            log.warn("Refresh token reuse detected for user {}; revoked token family", token.getUser().getId());
+            throw new InvalidCredentialsException("Refresh token has already been used");
+        }
+        if (!token.getUser().isEnabled()) {
+            throw new InvalidCredentialsException("Account is disabled");
+        }
+
+        return new RotatedToken(token.getUser(), issue(token.getUser(), token.getFamilyId()));
+    }
+
+    /**
+     * Revokes the family of the given token, e.g. on logout. Unknown tokens are ignored.
+     */
+    @Transactional
+    public void revokeFamilyOf(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return;
+        }
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    @Transactional
+    public void revokeAll(User user) {
+        refreshTokenRepository.revokeAllForUser(user.getId(), LocalDateTime.now());
+    }
+
+    @Transactional
+    @Scheduled(cron = "${taskflow.purge.cron:0 0 3 * * *}")
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+
+    private String issue(User user, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .user(user)
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(jwtConfig.getRefreshToken().getExpiration())))
+                .build());
+        return rawToken;
+    }
+
+    private String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    public record RotatedToken(User user, String refreshToken) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.SearchResultDTO;
+import com.taskflow.api.repository.CardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final int MAX_LIMIT = 50;
+
+    private final CardRepository cardRepository;
+
+    @Transactional(readOnly = true)
+    public List<SearchResultDTO> searchCards(String query, int limit, String email) {
+        if (query == null || query.isBlank()) {
+            throw new RuntimeException("Search query is required");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new RuntimeException("Search query is too long");
+        }
+
+        return cardRepository.searchCards(query.trim(), email, Math.max(1, Math.min(limit, MAX_LIMIT)))
+                .stream()
+                .map(SearchResultDTO::fromHit)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,56 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.event.CacheInvalidationEvent;
+import com.taskflow.api.model.Board;
+import com.taskflow.api.model.BoardList;
+import com.taskflow.api.model.BoardMember;
+import com.taskflow.api.model.BoardMemberId;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.Workspace;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Applies invalidations to the Hibernate second-level cache. Cached "active by id" query results are
+ * dropped with every board or list change, since a remote write does not bump this node's update
+ * timestamps. Memberships are evicted by their (board, user) key.
+ */
+@Service
+@RequiredArgsConstructor
+public class SecondLevelCacheEvictor {
+    private final EntityManagerFactory entityManagerFactory;
+
+    @EventListener
+    public void onInvalidation(CacheInvalidationEvent event) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        if (event.isFlushAll()) {
+            cache.evictAllRegions();
+            return;
+        }
+
+        Class<?> entityClass = switch (event.getEntityType()) {
+            case USER -> User.class;
+            case BOARD -> Board.class;
+            case LIST -> BoardList.class;
+            case BOARD_MEMBER -> BoardMember.class;
+            case WORKSPACE -> Workspace.class;
+        };
+        if (event.getEntityId() == null) {
+            cache.evictEntityData(entityClass);
+        } else if (entityClass == BoardMember.class) {
+            if (event.getUserId() != null) {
+                cache.evictEntityData(entityClass, new BoardMemberId(event.getEntityId(), event.getUserId()));
+            } else {
+                cache.evictEntityData(entityClass);
+            }
+        } else {
+            cache.evictEntityData(entityClass, event.getEntityId());
+        }
+        if (entityClass == Board.class || entityClass == BoardList.class) {
+            cache.evictDefaultQueryRegion();
+        }
+    }
+}
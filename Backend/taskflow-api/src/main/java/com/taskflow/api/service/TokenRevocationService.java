@@ -0,0 +1,132 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.config.RevocationConfig;
+import com.taskflow.api.model.RevokedToken;
+import com.taskflow.api.model.User;
+import com.taskflow.api.repository.RevokedTokenRepository;
+import com.taskflow.api.util.BloomFilter;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Deny-list for access tokens. Revoked token ids live in the {@code revoked_tokens} table; each node mirrors
+ * them into one Bloom filter per hour of token expiry, so checking a live token is a few bit reads and the
+ * database is only asked on a filter hit. A bucket is dropped as soon as every token in it has expired.
+ * Revocations made on other nodes are picked up by a periodic sync.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+    private static final long BUCKET_MILLIS = Duration.ofHours(1).toMillis();
+    // Covers clock skew between nodes writing revoked_at and commits landing after a sync.
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RevocationConfig revocationConfig;
+
+    private final ConcurrentNavigableMap<Long, BloomFilter> buckets = new ConcurrentSkipListMap<>();
+    private volatile LocalDateTime syncedUpTo = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @PostConstruct
+    void loadRevokedTokens() {
+        try {
+            syncRevokedTokens();
+        } catch (RuntimeException ex) {
+            log.warn("Could not load revoked tokens at startup; retrying on next sync", ex);
+        }
+    }
+
+    /**
+     * Whether a token that has already passed signature and expiry checks must still be rejected.
+     */
+    public boolean isRevoked(Claims claims, UserDetails userDetails) {
+        if (userDetails instanceof User user && user.getTokensValidAfter() != null && claims.getIssuedAt() != null
+                && claims.getIssuedAt().before(toDate(user.getTokensValidAfter()))) {
+            return true;
+        }
+
+        String jti = claims.getId();
+        if (jti == null) {
+            return false;
+        }
+        BloomFilter bucket = buckets.get(bucketOf(claims.getExpiration()));
+        if (bucket == null || !bucket.mightContain(jti)) {
+            return false;
+        }
+        return revokedTokenRepository.existsById(jti);
+    }
+
+    /**
+     * Makes every access token the user was issued so far invalid. Issue times have second precision, so the
+     * cutoff is the start of the next second: tokens issued earlier in the current second are revoked too,
+     * and a token issued in the same second right after this call has to be requested again.
+     */
+    public void revokeAllIssuedBefore(User user, LocalDateTime now) {
+        user.setTokensValidAfter(now.truncatedTo(ChronoUnit.SECONDS).plusSeconds(1));
+    }
+
+    @Transactional
+    public void revoke(Claims claims) {
+        if (claims.getId() == null || claims.getExpiration().before(new Date())) {
+            return;
+        }
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(claims.getId())
+                .expiresAt(toLocalDateTime(claims.getExpiration()))
+                .revokedAt(LocalDateTime.now())
+                .build());
+        add(claims.getId(), claims.getExpiration());
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.revocation.sync-millis:5000}")
+    public void syncRevokedTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        for (RevokedToken token : revokedTokenRepository.findActiveRevokedSince(syncedUpTo.minus(SYNC_OVERLAP), now)) {
+            add(token.getJti(), toDate(token.getExpiresAt()));
+        }
+        syncedUpTo = now;
+        buckets.headMap(bucketOf(new Date())).clear();
+    }
+
+    @Transactional
+    @Scheduled(cron = "${taskflow.purge.cron:0 0 3 * * *}")
+    public void purgeExpired() {
+        int purged = revokedTokenRepository.deleteExpiredBefore(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired revoked tokens", purged);
+        }
+    }
+
+    private void add(String jti, Date expiresAt) {
+        buckets.computeIfAbsent(bucketOf(expiresAt), bucket -> new BloomFilter(
+                        revocationConfig.getExpectedRevocationsPerHour(), revocationConfig.getFalsePositiveRate()))
+                .add(jti);
+    }
+
+    private static long bucketOf(Date expiresAt) {
+        return expiresAt.getTime() / BUCKET_MILLIS;
+    }
+
+    private static Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,103 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.WorkspaceDTO;
+import com.taskflow.api.dto.WorkspaceRequest;
+import com.taskflow.api.event.CacheInvalidationEvent.EntityType;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.Workspace;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.repository.WorkspaceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class WorkspaceService {
+    private final WorkspaceRepository workspaceRepository;
+    private final UserRepository userRepository;
+    private final CacheInvalidationService cacheInvalidationService;
+
+    @Transactional(readOnly = true)
+    public List<WorkspaceDTO> getWorkspaces(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        return workspaceRepository.findByOwnerOrderByNameAsc(user)
+                .stream()
+                .map(WorkspaceDTO::fromWorkspace)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public WorkspaceDTO createWorkspace(WorkspaceRequest request, String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        String name = request.getName().trim();
+        if (workspaceRepository.findByOwnerAndName(user, name).isPresent()) {
+            throw new RuntimeException("A workspace with this name already exists");
+        }
+
+        Workspace workspace = workspaceRepository.save(Workspace.builder()
+                .name(name)
+                .owner(user)
+                .build());
+        return WorkspaceDTO.fromWorkspace(workspace);
+    }
+
+    @Transactional
+    public WorkspaceDTO renameWorkspace(Long id, WorkspaceRequest request, String email) {
+        Workspace workspace = getWorkspaceAndVerifyOwner(id, email);
+
+        String name = request.getName().trim();
+        workspaceRepository.findByOwnerAndName(workspace.getOwner(), name)
+                .filter(existing -> !existing.getId().equals(id))
+                .ifPresent(existing -> {
+                    throw new RuntimeException("A workspace with this name already exists");
+                });
+
+        workspace.setName(name);
+        Workspace updatedWorkspace = workspaceRepository.save(workspace);
+        cacheInvalidationService.publish(EntityType.WORKSPACE, id);
+        return WorkspaceDTO.fromWorkspace(updatedWorkspace);
+    }
+
+    @Transactional
+    public void deleteWorkspace(Long id, String email) {
+        Workspace workspace = getWorkspaceAndVerifyOwner(id, email);
+
+        if (workspaceRepository.countBoards(workspace) > 0) {
+            throw new RuntimeException("Move or delete the workspace's boards first");
+        }
+
+        workspaceRepository.delete(workspace);
+        cacheInvalidationService.publish(EntityType.WORKSPACE, id);
+    }
+
+    /**
+     * The owner's workspace with this name, created on first use; a null name means the default one.
+     */
+    public Workspace resolve(User owner, String name) {
+        String workspaceName = name != null && !name.isBlank() ? name.trim() : Workspace.DEFAULT_NAME;
+        return workspaceRepository.findByOwnerAndName(owner, workspaceName)
+                .orElseGet(() -> workspaceRepository.save(Workspace.builder()
+                        .name(workspaceName)
+                        .owner(owner)
+                        .build()));
+    }
+
+    private Workspace getWorkspaceAndVerifyOwner(Long id, String email) {
+        Workspace workspace = workspaceRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Workspace not found"));
+
+        if (!workspace.getOwner().getEmail().equals(email)) {
+            throw new RuntimeException("You do not have access to this workspace");
+        }
+
+        return workspace;
+    }
+}
@@ -0,0 +1,115 @@
+package com.taskflow.api.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Hierarchical timing wheel: level {@code i} has {@code wheelSize} buckets of {@code wheelSize^i} ticks each,
+ * so scheduling and expiry are O(1) regardless of how many timers are pending. Timers further out than the
+ * top level's span park in its buckets and are re-placed each time their bucket comes round.
+ * <p>
+ * {@link #schedule} may be called from any thread; {@link #advance} must be driven by a single thread.
+ */
+public class HierarchicalTimerWheel<T> {
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] levelTicks;
+    private final List<List<List<Entry<T>>>> levels;
+    private final Queue<Entry<T>> incoming = new ConcurrentLinkedQueue<>();
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimerWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levelTicks = new long[levelCount];
+        this.levels = new ArrayList<>(levelCount);
+
+        long ticks = 1;
+        for (int level = 0; level < levelCount; level++) {
+            levelTicks[level] = ticks;
+            ticks *= wheelSize;
+
+            List<List<Entry<T>>> buckets = new ArrayList<>(wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                buckets.add(new ArrayList<>());
+            }
+            levels.add(buckets);
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    public void schedule(T item, long deadlineMillis) {
+        incoming.add(new Entry<>(item, deadlineMillis / tickMillis));
+    }
+
+    /**
+     * Moves the wheel forward to {@code nowMillis} and returns every item whose deadline has passed.
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        drainIncoming(expired);
+
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = levels.size() - 1; level > 0; level--) {
+                if (currentTick % levelTicks[level] == 0) {
+                    cascade(level, expired);
+                }
+            }
+            List<Entry<T>> bucket = levels.get(0).get(slotFor(currentTick, 0));
+            for (Entry<T> entry : bucket) {
+                expired.add(entry.item);
+            }
+            size -= bucket.size();
+            bucket.clear();
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size + incoming.size();
+    }
+
+    private void drainIncoming(List<T> expired) {
+        Entry<T> entry;
+        while ((entry = incoming.poll()) != null) {
+            place(entry, expired);
+        }
+    }
+
+    private void cascade(int level, List<T> expired) {
+        List<Entry<T>> bucket = levels.get(level).get(slotFor(currentTick, level));
+        List<Entry<T>> entries = new ArrayList<>(bucket);
+        size -= bucket.size();
+        bucket.clear();
+        for (Entry<T> entry : entries) {
+            place(entry, expired);
+        }
+    }
+
+    private void place(Entry<T> entry, List<T> expired) {
+        long delta = entry.deadlineTick - currentTick;
+        if (delta <= 0) {
+            expired.add(entry.item);
+            return;
+        }
+
+        int level = 0;
+        while (level < levels.size() - 1 && delta >= levelTicks[level] * wheelSize) {
+            level++;
+        }
+        levels.get(level).get(slotFor(entry.deadlineTick, level)).add(entry);
+        size++;
+    }
+
+    private int slotFor(long tick, int level) {
+        return (int) ((tick / levelTicks[level]) % wheelSize);
+    }
+
+    private record Entry<T>(T item, long deadlineTick) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskflow.api.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: the whole state is one "theoretical arrival time", so taking a
+ * token is a read and a compare-and-set. A bucket whose arrival time is in the past is full.
+ */
+public class TokenBucket {
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(int capacity, long refillPeriodNanos, long nowNanos) {
+        this.emissionIntervalNanos = Math.max(1, refillPeriodNanos / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one token. Returns 0 on success, otherwise the nanoseconds until a token becomes available.
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long arrival = Math.max(current, nowNanos);
+            long wait = arrival - nowNanos - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, arrival + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Removes tokens spent elsewhere, e.g. on other nodes sharing this budget.
+     */
+    public void drain(long tokens, long nowNanos) {
+        if (tokens > 0) {
+            theoreticalArrival.accumulateAndGet(tokens * emissionIntervalNanos,
+                    (current, debt) -> Math.max(current, nowNanos) + debt);
+        }
+    }
+
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+}
@@ -0,0 +1,18 @@
+-- Hot list/board reads only ever touch active rows.
+CREATE INDEX IF NOT EXISTS idx_cards_list_position_active
+    ON cards (list_id, position) WHERE archived = false;
+
+CREATE INDEX IF NOT EXISTS idx_board_lists_board_position_active
+    ON board_lists (board_id, position) WHERE archived = false;
+
+-- Purge job scans.
+CREATE INDEX IF NOT EXISTS idx_cards_archived_at
+    ON cards (archived_at) WHERE archived = true;
+
+CREATE INDEX IF NOT EXISTS idx_board_lists_archived_at
+    ON board_lists (archived_at) WHERE archived = true;
+
+-- Child lookups used when purging cards.
+CREATE INDEX IF NOT EXISTS idx_comments_card_id ON comments (card_id);
+
+CREATE INDEX IF NOT EXISTS idx_checklist_items_card_position ON checklist_items (card_id, position);
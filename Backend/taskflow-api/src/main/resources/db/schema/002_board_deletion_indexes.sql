@@ -0,0 +1,4 @@
+-- Foreign-key lookups for set-based board deletion (includes archived rows).
+CREATE INDEX IF NOT EXISTS idx_cards_list_id ON cards (list_id);
+
+CREATE INDEX IF NOT EXISTS idx_board_lists_board_id ON board_lists (board_id);
@@ -0,0 +1,5 @@
+-- Keyset scans for the cross-board "upcoming cards" view, ordered by (due_date, id).
+CREATE INDEX IF NOT EXISTS idx_cards_due_date_active
+    ON cards (due_date, id) WHERE archived = false AND due_date IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_boards_user_id ON boards (user_id);
@@ -0,0 +1,3 @@
+-- Cards still waiting for their due-date reminder, scanned one time slice at a time.
+CREATE INDEX IF NOT EXISTS idx_cards_reminder_pending
+    ON cards (due_date, id) WHERE reminder_sent = false AND archived = false AND due_date IS NOT NULL;
@@ -0,0 +1,16 @@
+-- Append-only activity log, range-partitioned by month. Partitions are created ahead of time and dropped
+-- after the retention period by ActivityLogService.
+CREATE TABLE IF NOT EXISTS activity_log (
+    id BIGSERIAL,
+    board_id BIGINT NOT NULL,
+    entity_type VARCHAR(32) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    action VARCHAR(32) NOT NULL,
+    actor_email VARCHAR(255),
+    details TEXT,
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (created_at, id)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX IF NOT EXISTS idx_activity_log_board_created
+    ON activity_log (board_id, created_at DESC, id DESC);
@@ -0,0 +1,21 @@
+-- Per-board change sequence for incremental sync. board_changes keeps only the latest change per entity,
+-- so it is compacted by construction; tombstones are purged after a retention period and compacted_seq
+-- records the newest sequence a client must have seen to still receive a delta.
+CREATE TABLE IF NOT EXISTS board_sync_state (
+    board_id BIGINT PRIMARY KEY REFERENCES boards (id) ON DELETE CASCADE,
+    last_seq BIGINT NOT NULL DEFAULT 0,
+    compacted_seq BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS board_changes (
+    board_id BIGINT NOT NULL REFERENCES boards (id) ON DELETE CASCADE,
+    entity_type VARCHAR(16) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    seq BIGINT NOT NULL,
+    deleted BOOLEAN NOT NULL DEFAULT false,
+    changed_at TIMESTAMP NOT NULL DEFAULT now(),
+    PRIMARY KEY (board_id, entity_type, entity_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_board_changes_board_seq ON board_changes (board_id, seq);
+CREATE INDEX IF NOT EXISTS idx_board_changes_tombstones ON board_changes (changed_at) WHERE deleted;
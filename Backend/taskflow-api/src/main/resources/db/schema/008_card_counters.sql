@@ -0,0 +1,19 @@
+-- One-off backfill of the denormalised counters on cards; afterwards they are maintained by delta updates.
+UPDATE cards c
+SET checklist_total = counts.total,
+    checklist_completed = counts.completed
+FROM (
+    SELECT card_id, count(*) AS total, count(*) FILTER (WHERE completed) AS completed
+    FROM checklist_items
+    GROUP BY card_id
+) counts
+WHERE counts.card_id = c.id;
+
+UPDATE cards c
+SET comment_count = counts.total
+FROM (
+    SELECT card_id, count(*) AS total
+    FROM comments
+    GROUP BY card_id
+) counts
+WHERE counts.card_id = c.id;
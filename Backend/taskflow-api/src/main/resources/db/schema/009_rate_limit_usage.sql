@@ -0,0 +1,8 @@
+-- Per-window request counts shared between nodes when taskflow.rate-limit.shared is on. The data is
+-- short-lived and rebuilt by traffic, so the table skips the WAL.
+CREATE UNLOGGED TABLE IF NOT EXISTS rate_limit_usage (
+    bucket_key VARCHAR(320) NOT NULL,
+    window_start BIGINT NOT NULL,
+    used BIGINT NOT NULL,
+    PRIMARY KEY (bucket_key, window_start)
+);
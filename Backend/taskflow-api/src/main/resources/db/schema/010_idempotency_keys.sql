@@ -0,0 +1,15 @@
+-- Responses of mutating requests sent with an Idempotency-Key header, kept until expires_at. A row with
+-- a null status is a claim held by a request still in flight.
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    owner VARCHAR(255) NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash CHAR(64) NOT NULL,
+    status INTEGER,
+    content_type VARCHAR(255),
+    body BYTEA,
+    created_at TIMESTAMP NOT NULL DEFAULT now(),
+    expires_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (owner, idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
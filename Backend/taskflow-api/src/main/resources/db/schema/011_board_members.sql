@@ -0,0 +1,6 @@
+-- Boards created before sharing existed get their owner as an ADMIN member; access checks and the board
+-- listing only look at board_members.
+INSERT INTO board_members (board_id, user_id, role, added_at)
+SELECT id, user_id, 'ADMIN', COALESCE(created_at, now())
+FROM boards
+ON CONFLICT (board_id, user_id) DO NOTHING;
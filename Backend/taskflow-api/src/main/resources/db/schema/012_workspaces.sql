@@ -0,0 +1,22 @@
+-- Boards used to carry a free-text workspace name. Each owner's distinct names become workspaces, boards
+-- without one go to the owner's "Personal" workspace; the old column is left in place but no longer read.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'boards' AND column_name = 'workspace') THEN
+        INSERT INTO workspaces (name, user_id, created_at, updated_at)
+        SELECT DISTINCT COALESCE(NULLIF(workspace, ''), 'Personal'), user_id, now(), now()
+        FROM boards
+        WHERE workspace_id IS NULL
+        ON CONFLICT (user_id, name) DO NOTHING;
+
+        UPDATE boards b
+        SET workspace_id = w.id
+        FROM workspaces w
+        WHERE b.workspace_id IS NULL
+          AND w.user_id = b.user_id
+          AND w.name = COALESCE(NULLIF(b.workspace, ''), 'Personal');
+    END IF;
+END $$;
+
+CREATE INDEX IF NOT EXISTS idx_boards_workspace_id ON boards (workspace_id);
@@ -0,0 +1,16 @@
+-- Per-board counts for the dashboard, refreshed concurrently on a schedule (see DashboardService) so the
+-- home page reads one row per board instead of loading every board's lists and cards. The unique index
+-- is required by REFRESH MATERIALIZED VIEW CONCURRENTLY.
+CREATE MATERIALIZED VIEW IF NOT EXISTS board_stats AS
+SELECT b.id AS board_id,
+       count(DISTINCT l.id) AS list_count,
+       count(c.id) AS card_count,
+       count(c.id) FILTER (WHERE c.due_date < now()) AS overdue_count,
+       now() AS refreshed_at
+FROM boards b
+LEFT JOIN board_lists l ON l.board_id = b.id AND l.archived = false
+LEFT JOIN cards c ON c.list_id = l.id AND c.archived = false
+WHERE b.pending_deletion = false
+GROUP BY b.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_board_stats_board_id ON board_stats (board_id);
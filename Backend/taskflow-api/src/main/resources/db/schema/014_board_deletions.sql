@@ -0,0 +1,15 @@
+-- Progress of board deletions, so any node can report the status of a purge running on another node and
+-- interrupted purges can be resumed after a restart. Rows outlive the board they describe and are removed
+-- an hour after the deletion finishes.
+CREATE TABLE IF NOT EXISTS board_deletions (
+    board_id BIGINT PRIMARY KEY,
+    owner_email VARCHAR(255),
+    state VARCHAR(20) NOT NULL,
+    deleted_cards BIGINT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_board_deletions_completed_at ON board_deletions (completed_at)
+    WHERE completed_at IS NOT NULL;
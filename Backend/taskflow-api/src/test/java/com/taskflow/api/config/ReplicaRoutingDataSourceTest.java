@@ -0,0 +1,108 @@
+package com.taskflow.api.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+    private DataSource replica;
+    private ResultSet lagResult;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        replica = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        lagResult = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(lagResult);
+        when(lagResult.next()).thenReturn(true);
+
+        routing = new ReplicaRoutingDataSource(mock(DataSource.class), replica, 1_000, 60_000);
+        authenticateAs("reader@example.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToAReplicaWithinTheLagBound() throws Exception {
+        reportLag(200);
+
+        assertThat(lookupKey(true)).isEqualTo("REPLICA");
+        assertThat(lookupKey(false)).isEqualTo("PRIMARY");
+    }
+
+    @Test
+    void routesReadsToThePrimaryWhileTheReplicaLags() throws Exception {
+        reportLag(5_000);
+
+        assertThat(lookupKey(true)).isEqualTo("PRIMARY");
+    }
+
+    @Test
+    void pinsAWriterToThePrimaryAfterItsCommit() throws Exception {
+        reportLag(0);
+        authenticateAs("writer@example.com");
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(lookupKey(false)).isEqualTo("PRIMARY");
+        assertThat(lookupKey(true)).isEqualTo("REPLICA");
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(lookupKey(true)).isEqualTo("PRIMARY");
+        authenticateAs("reader@example.com");
+        assertThat(lookupKey(true)).isEqualTo("REPLICA");
+    }
+
+    @Test
+    void doesNotPinAWriterWhoseTransactionRolledBack() throws Exception {
+        reportLag(0);
+
+        TransactionSynchronizationManager.initSynchronization();
+        lookupKey(false);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(lookupKey(true)).isEqualTo("REPLICA");
+    }
+
+    private void reportLag(long lagMillis) throws Exception {
+        when(lagResult.getLong(1)).thenReturn(lagMillis);
+        routing.checkReplicaLag();
+    }
+
+    private String lookupKey(boolean readOnly) {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        return routing.determineCurrentLookupKey().toString();
+    }
+
+    private void authenticateAs(String email) {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+}
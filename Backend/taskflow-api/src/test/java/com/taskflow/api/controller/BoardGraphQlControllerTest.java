@@ -0,0 +1,116 @@
+package com.taskflow.api.controller;
+
+import com.taskflow.api.config.GraphQlConfig;
+import com.taskflow.api.config.GraphQlInstrumentationConfig;
+import com.taskflow.api.dto.BoardDTO;
+import com.taskflow.api.dto.BoardListDTO;
+import com.taskflow.api.dto.CardDTO;
+import com.taskflow.api.dto.ChecklistItemDTO;
+import com.taskflow.api.service.BoardViewService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.GraphQlTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@GraphQlTest(controllers = BoardGraphQlController.class, properties = "taskflow.graphql.max-depth=5")
+@Import({GraphQlInstrumentationConfig.class, GraphQlConfig.class})
+class BoardGraphQlControllerTest {
+    private static final String EMAIL = "owner@example.com";
+
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @MockitoBean
+    private BoardViewService boardViewService;
+
+    @BeforeEach
+    void authenticate() {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(EMAIL, null, List.of()));
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void loadsEachLevelWithOneBatchCall() {
+        when(boardViewService.getBoard(1L, EMAIL)).thenReturn(BoardDTO.builder().id(1L).title("Board").build());
+        when(boardViewService.getListsByBoardIds(List.of(1L))).thenReturn(Map.of(1L, List.of(
+                list(10L, 0), list(11L, 1))));
+        when(boardViewService.getCardsByListIds(List.of(10L, 11L))).thenReturn(Map.of(
+                10L, List.of(card(100L, 10L), card(101L, 10L)),
+                11L, List.of(card(102L, 11L))));
+        when(boardViewService.getChecklistItemsByCardIds(List.of(100L, 101L, 102L))).thenReturn(Map.of(
+                101L, List.of(ChecklistItemDTO.builder().id(1000L).content("Step").position(0).cardId(101L).build())));
+
+        graphQlTester.document("""
+                        { board(id: 1) { title lists { id cards { id checklistItems { content } } } } }
+                        """)
+                .execute()
+                .path("board.lists[*].id").entityList(Long.class).containsExactly(10L, 11L)
+                .path("board.lists[0].cards[*].id").entityList(Long.class).containsExactly(100L, 101L)
+                .path("board.lists[1].cards[0].checklistItems").entityList(Object.class).hasSize(0)
+                .path("board.lists[0].cards[1].checklistItems[0].content").entity(String.class).isEqualTo("Step");
+
+        verify(boardViewService, times(1)).getListsByBoardIds(anyCollection());
+        verify(boardViewService, times(1)).getCardsByListIds(anyCollection());
+        verify(boardViewService, times(1)).getChecklistItemsByCardIds(anyCollection());
+        verify(boardViewService, never()).getCommentsByCardIds(anyCollection());
+    }
+
+    @Test
+    void rejectsQueriesDeeperThanTheLimit() {
+        graphQlTester.document("""
+                        { board(id: 1) { lists { cards { comments { author { email } } } } } }
+                        """)
+                .execute()
+                .errors()
+                .satisfy(errors -> assertThat(errors).singleElement()
+                        .satisfies(error -> assertThat(error.getMessage()).contains("maximum query depth exceeded")));
+
+        verify(boardViewService, never()).getBoard(1L, EMAIL);
+    }
+
+    @Test
+    void rejectsQueriesMoreComplexThanTheLimit() {
+        String fields = IntStream.range(0, 200)
+                .mapToObj(i -> "t" + i + ": title")
+                .collect(Collectors.joining(" "));
+
+        graphQlTester.document("{ board(id: 1) { " + fields + " } }")
+                .execute()
+                .errors()
+                .satisfy(errors -> assertThat(errors).singleElement()
+                        .satisfies(error -> assertThat(error.getMessage()).contains("maximum query complexity exceeded")));
+
+        verify(boardViewService, never()).getBoard(1L, EMAIL);
+    }
+
+    private BoardListDTO list(Long id, int position) {
+        return BoardListDTO.builder().id(id).title("List " + id).boardId(1L).position(position).build();
+    }
+
+    private CardDTO card(Long id, Long listId) {
+        return CardDTO.builder().id(id).title("Card " + id).listId(listId).boardId(1L).position(0).build();
+    }
+}
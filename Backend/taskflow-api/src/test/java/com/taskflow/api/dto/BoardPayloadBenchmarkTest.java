@@ -0,0 +1,107 @@
+package com.taskflow.api.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Wire size and serialisation cost of a full 20-list, 5,000-card board, as returned by
+ * {@code GET /api/v1/boards/{id}/view}. Run with {@code mvn test -Dtest=BoardPayloadBenchmarkTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BoardPayloadBenchmarkTest {
+    private static final int LISTS = 20;
+    private static final int CARDS_PER_LIST = 250;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    // Configured like Boot's auto-configured mapper (ISO dates, no timestamps).
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void fullBoardPayload() throws IOException {
+        BoardDTO board = board();
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            gzip(objectMapper.writeValueAsBytes(board));
+        }
+
+        byte[] json = null;
+        byte[] compressed = null;
+        long serializeNanos = 0;
+        long gzipNanos = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            json = objectMapper.writeValueAsBytes(board);
+            long serialized = System.nanoTime();
+            compressed = gzip(json);
+            gzipNanos += System.nanoTime() - serialized;
+            serializeNanos += serialized - start;
+        }
+
+        System.out.printf("%d cards: JSON %,d bytes in %.1f ms; gzip %,d bytes in %.1f ms%n",
+                LISTS * CARDS_PER_LIST, json.length, serializeNanos / 1e6 / MEASURED_ROUNDS,
+                compressed.length, gzipNanos / 1e6 / MEASURED_ROUNDS);
+        assertThat(compressed.length).isLessThan(json.length);
+    }
+
+    private BoardDTO board() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 15, 9, 30);
+        List<BoardListDTO> lists = new ArrayList<>();
+        long cardId = 1;
+        for (int list = 0; list < LISTS; list++) {
+            List<CardDTO> cards = new ArrayList<>();
+            for (int position = 0; position < CARDS_PER_LIST; position++, cardId++) {
+                cards.add(CardDTO.builder()
+                        .id(cardId)
+                        .title("Card " + cardId + " follow up with the design team")
+                        .description(cardId % 2 == 0 ? "Details for card " + cardId + " including acceptance criteria" : null)
+                        .listId((long) list + 1)
+                        .boardId(1L)
+                        .position(position)
+                        .dueDate(cardId % 3 == 0 ? now.plusDays(cardId % 30) : null)
+                        .checklistTotal((int) (cardId % 5))
+                        .checklistCompleted((int) (cardId % 3))
+                        .commentCount((int) (cardId % 4))
+                        .createdAt(now.minusDays(cardId % 90))
+                        .updatedAt(now.minusHours(cardId % 48))
+                        .build());
+            }
+            lists.add(BoardListDTO.builder()
+                    .id((long) list + 1)
+                    .title("List " + (list + 1))
+                    .boardId(1L)
+                    .position(list)
+                    .cards(cards)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return BoardDTO.builder()
+                .id(1L)
+                .title("Benchmark board")
+                .backgroundColor("#0079bf")
+                .lists(lists)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 8);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+}
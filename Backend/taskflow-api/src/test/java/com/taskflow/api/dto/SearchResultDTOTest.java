@@ -0,0 +1,21 @@
+package com.taskflow.api.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchResultDTOTest {
+
+    @Test
+    void escapesCardTextAndMarksTheMatches() {
+        String snippet = "<img src=x onerror=alert(1)> fix the \u0002login\u0003 & \"signup\"";
+
+        assertThat(SearchResultDTO.highlight(snippet)).isEqualTo(
+                "&lt;img src=x onerror=alert(1)&gt; fix the <mark>login</mark> &amp; &quot;signup&quot;");
+    }
+
+    @Test
+    void leavesMissingSnippetsEmpty() {
+        assertThat(SearchResultDTO.highlight(null)).isNull();
+    }
+}
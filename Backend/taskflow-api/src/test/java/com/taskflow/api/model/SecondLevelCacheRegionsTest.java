@@ -0,0 +1,80 @@
+package com.taskflow.api.model;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.cache.spi.RegionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate is set to fail on a region missing from application.conf; this catches it before startup does.
+ */
+class SecondLevelCacheRegionsTest {
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void openCacheManager() {
+        cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+    }
+
+    @AfterEach
+    void closeCacheManager() {
+        cacheManager.close();
+    }
+
+    @Test
+    void everyEntityRegionIsConfiguredAndBounded() throws Exception {
+        Set<String> regions = entityRegions();
+        regions.add(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+        assertThat(regions).contains("users", "boards", "board_lists", "board_members");
+        for (String region : regions) {
+            // Configured caches are created on first lookup; unknown names come back null, as Hibernate sees them.
+            assertThat(cacheManager.getCache(region)).as(region).isNotNull();
+            assertThat(configuration(region).getMaximumSize()).as(region).isPresent();
+            assertThat(configuration(region).isStatisticsEnabled()).as(region).isTrue();
+        }
+    }
+
+    @Test
+    void updateTimestampsRegionIsNeverBounded() {
+        CaffeineConfiguration<?, ?> timestamps =
+                configuration(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+
+        assertThat(timestamps.getMaximumSize()).isEmpty();
+        assertThat(timestamps.getMaximumWeight()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CaffeineConfiguration<?, ?> configuration(String region) {
+        return cacheManager.getCache(region).getConfiguration(CaffeineConfiguration.class);
+    }
+
+    private static Set<String> entityRegions() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Cache.class));
+        Set<String> regions = new HashSet<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(User.class.getPackageName())) {
+            Class<?> entity = Class.forName(candidate.getBeanClassName());
+            regions.add(entity.getAnnotation(Cache.class).region());
+            NaturalIdCache naturalIdCache = entity.getAnnotation(NaturalIdCache.class);
+            if (naturalIdCache != null) {
+                regions.add(naturalIdCache.region());
+            }
+        }
+        return regions;
+    }
+}
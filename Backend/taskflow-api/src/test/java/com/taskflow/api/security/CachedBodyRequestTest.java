@@ -0,0 +1,114 @@
+package com.taskflow.api.security;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedBodyRequestTest {
+
+    @Test
+    void bodyCanBeReadRepeatedly() throws Exception {
+        CachedBodyRequest request = new CachedBodyRequest(requestWithBody("{\"title\":\"Board\"}"));
+
+        assertThat(request.getInputStream().readAllBytes()).isEqualTo(request.getBody());
+        assertThat(request.getReader().readLine()).isEqualTo("{\"title\":\"Board\"}");
+    }
+
+    @Test
+    void readListenerGetsTheWholeBodyImmediately() throws Exception {
+        CachedBodyRequest request = new CachedBodyRequest(requestWithBody("payload"));
+        ServletInputStream input = request.getInputStream();
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        List<String> events = new ArrayList<>();
+
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                events.add("data");
+                byte[] buffer = new byte[4];
+                while (input.isReady() && !input.isFinished()) {
+                    int read = input.read(buffer);
+                    received.write(buffer, 0, read);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        assertThat(events).containsExactly("data", "done");
+        assertThat(received.toString(StandardCharsets.UTF_8)).isEqualTo("payload");
+    }
+
+    @Test
+    void readListenerOnAnEmptyBodyIsOnlyToldItIsDone() throws Exception {
+        CachedBodyRequest request = new CachedBodyRequest(requestWithBody(""));
+        List<String> events = new ArrayList<>();
+
+        request.getInputStream().setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() {
+                events.add("data");
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        assertThat(events).containsExactly("done");
+    }
+
+    @Test
+    void listenerFailuresAreReportedToOnError() throws Exception {
+        CachedBodyRequest request = new CachedBodyRequest(requestWithBody("payload"));
+        List<Throwable> errors = new ArrayList<>();
+        IOException failure = new IOException("client gone");
+
+        request.getInputStream().setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                throw failure;
+            }
+
+            @Override
+            public void onAllDataRead() {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                errors.add(t);
+            }
+        });
+
+        assertThat(errors).containsExactly(failure);
+    }
+
+    private static MockHttpServletRequest requestWithBody(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/boards");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
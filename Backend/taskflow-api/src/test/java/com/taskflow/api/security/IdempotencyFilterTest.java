@@ -0,0 +1,106 @@
+package com.taskflow.api.security;
+
+import com.taskflow.api.repository.IdempotencyRecord;
+import com.taskflow.api.service.IdempotencyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotencyFilterTest {
+    private static final String OWNER = "alice@example.com";
+    private static final String KEY = "key-1";
+
+    private IdempotencyService idempotencyService;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = mock(IdempotencyService.class);
+        when(idempotencyService.findCached(anyString(), anyString())).thenReturn(Optional.empty());
+
+        filter = new IdempotencyFilter();
+        ReflectionTestUtils.setField(filter, "idempotencyService", idempotencyService);
+        ReflectionTestUtils.setField(filter, "objectMapper", Jackson2ObjectMapperBuilder.json().build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(OWNER, null, List.of()));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void replaysACachedResponseWithoutClaimingTheKey() throws Exception {
+        String hash = IdempotencyFilter.fingerprint(new CachedBodyRequest(post("{\"title\":\"Card\"}")));
+        when(idempotencyService.findCached(OWNER, KEY)).thenReturn(Optional.of(completed(hash)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(post("{\"title\":\"Card\"}"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(chain.getRequest()).isNull();
+        verify(idempotencyService, never()).claim(anyString(), anyString(), anyString());
+        verify(idempotencyService, never()).find(anyString(), anyString());
+    }
+
+    @Test
+    void rejectsACachedKeyReusedForAnotherBodyWithoutClaimingIt() throws Exception {
+        when(idempotencyService.findCached(OWNER, KEY)).thenReturn(Optional.of(completed("other-hash")));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(post("{\"title\":\"Card\"}"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(422);
+        verify(idempotencyService, never()).claim(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void claimsAndStoresTheResponseOnACacheMiss() throws Exception {
+        when(idempotencyService.claim(eq(OWNER), eq(KEY), anyString())).thenReturn(true);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(post("{\"title\":\"Card\"}"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        verify(idempotencyService).complete(eq(OWNER), eq(KEY), anyString(), anyInt(), any(), any());
+    }
+
+    private static IdempotencyRecord completed(String requestHash) {
+        return new IdempotencyRecord(requestHash, 201, "application/json",
+                "{\"id\":1}".getBytes(StandardCharsets.UTF_8), LocalDateTime.now().plusHours(1));
+    }
+
+    private static MockHttpServletRequest post(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/cards");
+        request.addHeader(IdempotencyFilter.HEADER, KEY);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
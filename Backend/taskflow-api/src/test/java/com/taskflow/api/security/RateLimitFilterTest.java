@@ -0,0 +1,143 @@
+package com.taskflow.api.security;
+
+import com.taskflow.api.config.RateLimitConfig;
+import com.taskflow.api.service.RateLimiterService;
+import com.taskflow.api.service.RateLimiterService.Budget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimitFilterTest {
+    private RateLimiterService rateLimiterService;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitConfig config = new RateLimitConfig();
+        config.setTrustedProxies(List.of("10.0.0.0/8"));
+        rateLimiterService = mock(RateLimiterService.class);
+        when(rateLimiterService.tryAcquire(any(), anyString())).thenReturn(0L);
+
+        filter = new RateLimitFilter();
+        ReflectionTestUtils.setField(filter, "rateLimiterService", rateLimiterService);
+        ReflectionTestUtils.setField(filter, "rateLimitConfig", config);
+        ReflectionTestUtils.setField(filter, "objectMapper", Jackson2ObjectMapperBuilder.json().build());
+        filter.initTrustedProxies();
+    }
+
+    @Test
+    void keysLoginsByAddressAndSubmittedEmailAndKeepsTheBody() throws Exception {
+        String body = "{\"email\":\"Alice@Example.com\",\"password\":\"secret\"}";
+        MockHttpServletRequest request = login("203.0.113.7", body);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        verify(rateLimiterService).tryAcquire(Budget.AUTH, "ip:203.0.113.7:email:alice@example.com");
+        byte[] forwarded = chain.getRequest().getInputStream().readAllBytes();
+        assertThat(new String(forwarded, StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+
+    @Test
+    void keysByEmailParameterWhenThereIsNoJsonBody() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/resend-verification");
+        request.setRemoteAddr("203.0.113.7");
+        request.setParameter("email", "bob@example.com");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiterService).tryAcquire(Budget.AUTH, "ip:203.0.113.7:email:bob@example.com");
+    }
+
+    @Test
+    void takesTheClientFromForwardedForBehindATrustedProxy() throws Exception {
+        MockHttpServletRequest request = login("10.1.2.3", "{}");
+        request.addHeader("X-Forwarded-For", "198.51.100.1, 203.0.113.7, 10.4.5.6");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // 198.51.100.1 was written by the client itself; 203.0.113.7 is the first hop our proxies did not add.
+        verify(rateLimiterService).tryAcquire(Budget.AUTH, "ip:203.0.113.7");
+    }
+
+    @Test
+    void ignoresForwardedForFromAnUntrustedPeer() throws Exception {
+        MockHttpServletRequest request = login("203.0.113.7", "{}");
+        request.addHeader("X-Forwarded-For", "198.51.100.1");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiterService).tryAcquire(Budget.AUTH, "ip:203.0.113.7");
+    }
+
+    @Test
+    void doesNotResolveHostNamesInForwardedFor() throws Exception {
+        MockHttpServletRequest request = login("10.1.2.3", "{}");
+        request.addHeader("X-Forwarded-For", "localhost");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiterService).tryAcquire(Budget.AUTH, "ip:localhost");
+    }
+
+    @Test
+    void rejectsWithRetryAfterWhenOverBudget() throws Exception {
+        when(rateLimiterService.tryAcquire(any(), anyString())).thenReturn(1_500_000_000L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(login("203.0.113.7", "{}"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void chargesTheAddressBudgetForEveryLogin() throws Exception {
+        filter.doFilter(login("203.0.113.7", "{\"email\":\"a@example.com\"}"), new MockHttpServletResponse(),
+                new MockFilterChain());
+        filter.doFilter(login("203.0.113.7", "{\"email\":\"b@example.com\"}"), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        verify(rateLimiterService, times(2)).tryAcquire(Budget.AUTH_IP, "ip:203.0.113.7");
+    }
+
+    @Test
+    void rejectsAnAddressOutOfAttemptsWhateverTheEmail() throws Exception {
+        when(rateLimiterService.tryAcquire(Budget.AUTH_IP, "ip:203.0.113.7")).thenReturn(1_000_000_000L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(login("203.0.113.7", "{\"email\":\"fresh@example.com\"}"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(chain.getRequest()).isNull();
+        verify(rateLimiterService, never()).tryAcquire(eq(Budget.AUTH), anyString());
+    }
+
+    private MockHttpServletRequest login(String remoteAddr, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/authenticate");
+        request.setRemoteAddr(remoteAddr);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,105 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.event.CacheInvalidationEvent;
+import com.taskflow.api.event.CacheInvalidationEvent.EntityType;
+import com.taskflow.api.model.BoardMemberId;
+import com.taskflow.api.repository.BoardMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoardSubscriptionRegistryTest {
+    private static final Long BOARD = 7L;
+    private static final Long USER = 42L;
+
+    private MessageChannel clientOutboundChannel;
+    private MessageChannel brokerChannel;
+    private BoardMemberRepository boardMemberRepository;
+    private BoardSubscriptionRegistry registry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        clientOutboundChannel = mock(MessageChannel.class);
+        brokerChannel = mock(MessageChannel.class);
+        boardMemberRepository = mock(BoardMemberRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+
+        registry = new BoardSubscriptionRegistry(clientOutboundChannel, brokerChannel, boardMemberRepository,
+                transactionTemplate);
+    }
+
+    @Test
+    void closesTheSessionsOfARemovedMember() {
+        registry.subscribed("session-1", "sub-0", USER, BOARD);
+        registry.subscribed("session-1", "sub-1", USER, 8L);
+        when(boardMemberRepository.existsById(new BoardMemberId(BOARD, USER))).thenReturn(false);
+
+        registry.onInvalidation(membershipChanged(BOARD, USER));
+
+        ArgumentCaptor<Message<?>> unsubscribe = messageCaptor();
+        verify(brokerChannel).send(unsubscribe.capture());
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(unsubscribe.getValue());
+        assertThat(headers.getMessageType()).isEqualTo(SimpMessageType.UNSUBSCRIBE);
+        assertThat(headers.getSessionId()).isEqualTo("session-1");
+        assertThat(headers.getSubscriptionId()).isEqualTo("sub-0");
+
+        ArgumentCaptor<Message<?>> error = messageCaptor();
+        verify(clientOutboundChannel).send(error.capture());
+        StompHeaderAccessor frame = StompHeaderAccessor.wrap(error.getValue());
+        assertThat(frame.getCommand()).isEqualTo(StompCommand.ERROR);
+        assertThat(frame.getSessionId()).isEqualTo("session-1");
+    }
+
+    @Test
+    void keepsSessionsWhenOnlyTheRoleChanged() {
+        registry.subscribed("session-1", "sub-0", USER, BOARD);
+        when(boardMemberRepository.existsById(new BoardMemberId(BOARD, USER))).thenReturn(true);
+
+        registry.onInvalidation(membershipChanged(BOARD, USER));
+
+        verify(brokerChannel, never()).send(any());
+        verify(clientOutboundChannel, never()).send(any());
+    }
+
+    @Test
+    void ignoresOtherUsersBoardsAndEndedSessions() {
+        registry.subscribed("other-user", "sub-0", 43L, BOARD);
+        registry.subscribed("other-board", "sub-0", USER, 8L);
+        registry.subscribed("unsubscribed", "sub-0", USER, BOARD);
+        registry.unsubscribed("unsubscribed", "sub-0");
+        registry.subscribed("disconnected", "sub-0", USER, BOARD);
+        registry.disconnected("disconnected");
+
+        registry.onInvalidation(membershipChanged(BOARD, USER));
+
+        verify(boardMemberRepository, never()).existsById(any());
+        verify(clientOutboundChannel, never()).send(any());
+    }
+
+    private static CacheInvalidationEvent membershipChanged(Long boardId, Long userId) {
+        return new CacheInvalidationEvent(EntityType.BOARD_MEMBER, boardId, userId, System.currentTimeMillis());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Message<?>> messageCaptor() {
+        return ArgumentCaptor.forClass((Class<Message<?>>) (Class<?>) Message.class);
+    }
+}
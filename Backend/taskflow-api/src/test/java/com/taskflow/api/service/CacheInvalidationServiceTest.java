@@ -0,0 +1,140 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.config.InvalidationConfig;
+import com.taskflow.api.event.CacheInvalidationEvent;
+import com.taskflow.api.event.CacheInvalidationEvent.EntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class CacheInvalidationServiceTest {
+    private static final String CHANNEL = "taskflow_invalidation";
+
+    private PostgresNotificationBus notificationBus;
+    private ApplicationEventPublisher eventPublisher;
+    private InvalidationConfig config;
+    private CacheInvalidationService service;
+    private PostgresNotificationBus.Handler handler;
+
+    @BeforeEach
+    void setUp() {
+        notificationBus = mock(PostgresNotificationBus.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        config = new InvalidationConfig();
+        config.setChannel(CHANNEL);
+        service = new CacheInvalidationService(notificationBus, eventPublisher, config);
+
+        service.subscribe();
+        ArgumentCaptor<PostgresNotificationBus.Handler> captor =
+                ArgumentCaptor.forClass(PostgresNotificationBus.Handler.class);
+        verify(notificationBus).subscribe(eq(CHANNEL), captor.capture());
+        handler = captor.getValue();
+    }
+
+    @Test
+    void splitsLargeBatchesIntoPayloadsUnderTheLimit() {
+        config.setMaxKeysPerBatch(10_000);
+        for (long id = 1; id <= 1_000; id++) {
+            service.publish(EntityType.BOARD, id);
+        }
+
+        service.sendPending();
+
+        List<String> payloads = sentPayloads();
+        assertThat(payloads).hasSizeGreaterThan(1);
+        int lines = 0;
+        for (String payload : payloads) {
+            assertThat(payload.getBytes(StandardCharsets.UTF_8).length)
+                    .isLessThanOrEqualTo(PostgresNotificationBus.MAX_PAYLOAD_BYTES);
+            lines += payload.split("\n").length - 1;
+        }
+        assertThat(lines).isEqualTo(1_000);
+    }
+
+    @Test
+    void carriesMembershipKeysAcrossNodes() {
+        service.publishMembership(7L, 42L);
+        service.sendPending();
+
+        String payload = sentPayloads().get(0);
+        assertThat(payload).contains("\nBOARD_MEMBER:7:42:");
+
+        clearInvocations(eventPublisher);
+        handler.onNotifications(List.of(payload.replaceFirst("^[^\n]+", "other-node")));
+
+        CacheInvalidationEvent event = publishedEvents().get(0);
+        assertThat(event.getEntityType()).isEqualTo(EntityType.BOARD_MEMBER);
+        assertThat(event.getEntityId()).isEqualTo(7L);
+        assertThat(event.getUserId()).isEqualTo(42L);
+    }
+
+    @Test
+    void skipsItsOwnPayloads() {
+        service.publish(EntityType.USER, 3L);
+        service.sendPending();
+        String payload = sentPayloads().get(0);
+        clearInvocations(eventPublisher);
+
+        handler.onNotifications(List.of(payload));
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void turnsMalformedPayloadsIntoAFullFlush() {
+        handler.onNotifications(List.of("other-node\nBOARD:not-a-number:1", "other-node\nLIST:5:100"));
+
+        List<CacheInvalidationEvent> events = publishedEvents();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).isFlushAll()).isTrue();
+    }
+
+    @Test
+    void aTypeFlushCoversThatTypesSingleEntities() {
+        handler.onNotifications(List.of("other-node\nLIST:5:100\nLIST:*:101\nBOARD:9:102"));
+
+        List<CacheInvalidationEvent> events = publishedEvents();
+        assertThat(events).extracting(CacheInvalidationEvent::getEntityType, CacheInvalidationEvent::getEntityId)
+                .containsExactlyInAnyOrder(
+                        tuple(EntityType.LIST, null),
+                        tuple(EntityType.BOARD, 9L));
+    }
+
+    @Test
+    void collapsesOversizedBatchesToTypeFlushes() {
+        config.setMaxKeysPerBatch(2);
+
+        handler.onNotifications(List.of("other-node\nUSER:1:100\nUSER:2:100\nUSER:3:100"));
+
+        List<CacheInvalidationEvent> events = publishedEvents();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getEntityType()).isEqualTo(EntityType.USER);
+        assertThat(events.get(0).getEntityId()).isNull();
+    }
+
+    private List<String> sentPayloads() {
+        ArgumentCaptor<String> payloads = ArgumentCaptor.forClass(String.class);
+        verify(notificationBus, atLeastOnce()).send(eq(CHANNEL), payloads.capture());
+        return payloads.getAllValues();
+    }
+
+    private List<CacheInvalidationEvent> publishedEvents() {
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        return events.getAllValues().stream().map(CacheInvalidationEvent.class::cast).toList();
+    }
+}
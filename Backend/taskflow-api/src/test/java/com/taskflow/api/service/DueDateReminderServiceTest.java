@@ -0,0 +1,111 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.config.ReminderConfig;
+import com.taskflow.api.repository.BoardMemberRepository;
+import com.taskflow.api.repository.BoardSyncRepository;
+import com.taskflow.api.repository.BoardSyncState;
+import com.taskflow.api.repository.CardRepository;
+import com.taskflow.api.repository.ReminderCandidate;
+import com.taskflow.api.repository.ReminderRecipient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DueDateReminderServiceTest {
+    private CardRepository cardRepository;
+    private BoardMemberRepository boardMemberRepository;
+    private EmailService emailService;
+    private LiveBoardService liveBoardService;
+    private DueDateReminderService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        cardRepository = mock(CardRepository.class);
+        boardMemberRepository = mock(BoardMemberRepository.class);
+        BoardSyncRepository boardSyncRepository = mock(BoardSyncRepository.class);
+        when(boardSyncRepository.findState(anyLong())).thenReturn(new BoardSyncState(41, 0));
+        emailService = mock(EmailService.class);
+        liveBoardService = mock(LiveBoardService.class);
+        LeaderElectionService leaderElectionService = mock(LeaderElectionService.class);
+        when(leaderElectionService.isLeader(anyString())).thenReturn(true);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+
+        ReminderConfig config = new ReminderConfig();
+        config.setUserBatchWindowMillis(0);
+        service = new DueDateReminderService(cardRepository, boardMemberRepository, boardSyncRepository,
+                emailService, liveBoardService, leaderElectionService, config, transactionTemplate);
+    }
+
+    @Test
+    void sendsOneEmailPerMemberAndPushesToTheBoards() {
+        // Already inside the lead time, so the reminders fire on the next tick.
+        LocalDateTime dueDate = LocalDateTime.now().plusMinutes(30);
+        ReminderCandidate design = candidate(1L, 10L, dueDate);
+        ReminderCandidate launch = candidate(2L, 10L, dueDate);
+        ReminderCandidate invoice = candidate(3L, 20L, dueDate);
+        List<ReminderCandidate> due = List.of(design, launch, invoice);
+        when(cardRepository.findReminderCandidates(any(), any(), any(), any())).thenReturn(due);
+        when(cardRepository.findPendingRemindersByIds(any())).thenReturn(due);
+        when(boardMemberRepository.findReminderRecipients(any())).thenReturn(List.of(
+                recipient(10L, "owner@example.com"),
+                recipient(10L, "member@example.com"),
+                recipient(20L, "member@example.com")));
+
+        service.loadUpcomingSlice();
+        service.tick();
+
+        verify(emailService).sendDueDateReminders("owner@example.com", List.of(design, launch));
+        verify(emailService).sendDueDateReminders(eq("member@example.com"), argThat(cards -> cards.size() == 3
+                && cards.containsAll(List.of(design, launch, invoice))));
+        verify(liveBoardService).publishDueSoon(10L, 1L, 41);
+        verify(liveBoardService).publishDueSoon(10L, 2L, 41);
+        verify(liveBoardService).publishDueSoon(20L, 3L, 41);
+        verify(cardRepository).markRemindersSent(any());
+    }
+
+    @Test
+    void skipsCardsWhoseReminderWasAlreadySent() {
+        LocalDateTime dueDate = LocalDateTime.now().plusMinutes(30);
+        when(cardRepository.findReminderCandidates(any(), any(), any(), any()))
+                .thenReturn(List.of(candidate(1L, 10L, dueDate)));
+        when(cardRepository.findPendingRemindersByIds(any())).thenReturn(List.of());
+
+        service.loadUpcomingSlice();
+        service.tick();
+
+        verify(emailService, never()).sendDueDateReminders(anyString(), any());
+        verify(liveBoardService, never()).publishDueSoon(anyLong(), anyLong(), anyLong());
+    }
+
+    private static ReminderCandidate candidate(Long cardId, Long boardId, LocalDateTime dueDate) {
+        return new Candidate(cardId, "Card " + cardId, dueDate, boardId, "Board " + boardId);
+    }
+
+    private static ReminderRecipient recipient(Long boardId, String email) {
+        return new Recipient(boardId, email);
+    }
+
+    private record Candidate(Long getCardId, String getTitle, LocalDateTime getDueDate, Long getBoardId,
+                             String getBoardTitle) implements ReminderCandidate {
+    }
+
+    private record Recipient(Long getBoardId, String getEmail) implements ReminderRecipient {
+    }
+}
@@ -0,0 +1,57 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.config.RateLimitConfig;
+import com.taskflow.api.repository.RateLimitRepository;
+import com.taskflow.api.service.RateLimiterService.Budget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RateLimiterServiceTest {
+    private static final int MAX_KEYS = 10;
+
+    private RateLimitConfig config;
+    private RateLimiterService service;
+
+    @BeforeEach
+    void setUp() {
+        config = new RateLimitConfig();
+        config.setMaxKeys(MAX_KEYS);
+        // One request per hour, so every bucket used in a test stays spent.
+        config.setAuth(new RateLimitConfig.Budget(1, 3_600));
+        service = new RateLimiterService(config, mock(RateLimitRepository.class));
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedBucketsWhenNoneAreIdle() {
+        for (int i = 0; i < MAX_KEYS; i++) {
+            assertThat(service.tryAcquire(Budget.AUTH, "key-" + i)).isZero();
+        }
+        // key-0 is touched again, so key-1 becomes the least recently used.
+        assertThat(service.tryAcquire(Budget.AUTH, "key-0")).isPositive();
+
+        assertThat(service.tryAcquire(Budget.AUTH, "new")).isZero();
+
+        assertThat(service.getTrackedKeys()).isEqualTo(MAX_KEYS);
+        assertThat(service.tryAcquire(Budget.AUTH, "key-0")).isPositive();
+        assertThat(service.tryAcquire(Budget.AUTH, "key-2")).isPositive();
+        assertThat(service.tryAcquire(Budget.AUTH, "key-1")).isZero();
+    }
+
+    @Test
+    void keepsBucketsWithUnsyncedUsage() {
+        config.setShared(true);
+        for (int i = 0; i < MAX_KEYS; i++) {
+            service.tryAcquire(Budget.AUTH, "key-" + i);
+        }
+
+        service.tryAcquire(Budget.AUTH, "new");
+
+        assertThat(service.getTrackedKeys()).isEqualTo(MAX_KEYS + 1);
+        for (int i = 0; i < MAX_KEYS; i++) {
+            assertThat(service.tryAcquire(Budget.AUTH, "key-" + i)).isPositive();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.config.RevocationConfig;
+import com.taskflow.api.model.User;
+import com.taskflow.api.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TokenRevocationServiceTest {
+    private static final LocalDateTime REVOKED_AT = LocalDateTime.of(2026, 3, 1, 12, 0, 30, 750_000_000);
+
+    private TokenRevocationService service;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        service = new TokenRevocationService(mock(RevokedTokenRepository.class), new RevocationConfig());
+        user = User.builder().email("alice@example.com").build();
+        service.revokeAllIssuedBefore(user, REVOKED_AT);
+    }
+
+    @Test
+    void revokesTokensIssuedEarlierInTheSameSecond() {
+        assertThat(service.isRevoked(issuedAt(REVOKED_AT.withNano(0)), user)).isTrue();
+        assertThat(service.isRevoked(issuedAt(REVOKED_AT.minusMinutes(5)), user)).isTrue();
+    }
+
+    @Test
+    void acceptsTokensIssuedFromTheNextSecond() {
+        assertThat(service.isRevoked(issuedAt(REVOKED_AT.withNano(0).plusSeconds(1)), user)).isFalse();
+    }
+
+    private static Claims issuedAt(LocalDateTime issuedAt) {
+        Date issued = Date.from(issuedAt.atZone(ZoneId.systemDefault()).toInstant());
+        return Jwts.claims()
+                .setSubject("alice@example.com")
+                .setIssuedAt(issued)
+                .setExpiration(new Date(issued.getTime() + 3_600_000));
+    }
+}
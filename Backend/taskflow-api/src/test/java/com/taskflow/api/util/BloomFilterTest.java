@@ -0,0 +1,99 @@
+package com.taskflow.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+    // Defaults of taskflow.revocation: one filter per hour of expiry, sized for 10k token ids at 1%.
+    private static final int EXPECTED_INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int PROBES = 200_000;
+
+    @Test
+    void neverMissesAnAddedKey() {
+        BloomFilter filter = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+        List<String> keys = randomKeys(EXPECTED_INSERTIONS);
+        keys.forEach(filter::add);
+
+        assertThat(keys).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheConfiguredRateAtCapacity() {
+        BloomFilter filter = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+        randomKeys(EXPECTED_INSERTIONS).forEach(filter::add);
+
+        double measured = falsePositiveRate(filter);
+
+        assertThat(measured).isLessThan(FALSE_POSITIVE_RATE * 1.5);
+    }
+
+    @Test
+    void falsePositiveRateHoldsForSequentialKeys() {
+        // Similar keys (shared prefixes, one differing digit) must not cluster onto the same bits.
+        BloomFilter filter = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            filter.add("token-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = EXPECTED_INSERTIONS; i < EXPECTED_INSERTIONS + PROBES; i++) {
+            if (filter.mightContain("token-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / PROBES).isLessThan(FALSE_POSITIVE_RATE * 1.5);
+    }
+
+    @Test
+    void keepsEveryKeyAddedConcurrently() throws Exception {
+        BloomFilter filter = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+        List<String> keys = randomKeys(EXPECTED_INSERTIONS);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int offset = t;
+                writers.add(executor.submit(() -> {
+                    for (int i = offset; i < keys.size(); i += 8) {
+                        filter.add(keys.get(i));
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(keys).allMatch(filter::mightContain);
+    }
+
+    private static double falsePositiveRate(BloomFilter filter) {
+        int falsePositives = 0;
+        for (String probe : randomKeys(PROBES)) {
+            if (filter.mightContain(probe)) {
+                falsePositives++;
+            }
+        }
+        return (double) falsePositives / PROBES;
+    }
+
+    private static List<String> randomKeys(int count) {
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add(UUID.randomUUID().toString());
+        }
+        return keys;
+    }
+}
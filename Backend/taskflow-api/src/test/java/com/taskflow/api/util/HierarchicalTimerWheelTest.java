@@ -0,0 +1,77 @@
+package com.taskflow.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimerWheelTest {
+    private static final long TICK = 10;
+    private static final int WHEEL_SIZE = 8;
+
+    @Test
+    void firesOnTheTickOfTheDeadline() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, WHEEL_SIZE, 3, 0);
+        wheel.schedule("a", 50);
+
+        assertThat(wheel.advance(40)).isEmpty();
+        assertThat(wheel.advance(50)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void pastDueItemsFireOnTheNextAdvance() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, WHEEL_SIZE, 3, 1_000);
+        wheel.schedule("late", 200);
+        wheel.schedule("now", 1_000);
+
+        assertThat(wheel.advance(1_000)).containsExactlyInAnyOrder("late", "now");
+    }
+
+    @Test
+    void cascadesFromUpperLevelsToTheExactTick() {
+        HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(TICK, WHEEL_SIZE, 3, 0);
+        // Level 0 spans 8 ticks, level 1 spans 64 and level 2 spans 512.
+        long[] deadlineTicks = {7, 8, 9, 63, 64, 65, 100, 511};
+        for (long tick : deadlineTicks) {
+            wheel.schedule(tick, tick * TICK);
+        }
+
+        for (long tick : deadlineTicks) {
+            assertThat(wheel.advance((tick - 1) * TICK)).doesNotContain(tick);
+            assertThat(wheel.advance(tick * TICK)).contains(tick);
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void deadlinesBeyondTheTopLevelWrapAroundUntilDue() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, WHEEL_SIZE, 2, 0);
+        // Two levels span 64 ticks; 200 ticks out parks in the top level and comes round three times.
+        wheel.schedule("far", 200 * TICK);
+
+        List<String> fired = new ArrayList<>();
+        for (long tick = 1; tick < 200; tick++) {
+            fired.addAll(wheel.advance(tick * TICK));
+        }
+        assertThat(fired).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        assertThat(wheel.advance(200 * TICK)).containsExactly("far");
+    }
+
+    @Test
+    void advancingManyTicksAtOnceFiresEverythingInBetween() {
+        HierarchicalTimerWheel<Integer> wheel = new HierarchicalTimerWheel<>(TICK, WHEEL_SIZE, 3, 0);
+        for (int tick = 1; tick <= 300; tick++) {
+            wheel.schedule(tick, tick * TICK);
+        }
+
+        List<Integer> fired = wheel.advance(150 * TICK);
+        assertThat(fired).hasSize(150).doesNotContain(151);
+        assertThat(wheel.size()).isEqualTo(150);
+        assertThat(wheel.advance(300 * TICK)).hasSize(150);
+    }
+}
@@ -0,0 +1,139 @@
+package com.taskflow.api.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class SingleFlightTest {
+    private static final int CALLERS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofSeconds(10));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> flight.execute("board-1", () -> {
+            loads.incrementAndGet();
+            awaitRelease(release);
+            return "lists";
+        }));
+        await().until(() -> flight.inFlightCount() == 1);
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 1; i < CALLERS; i++) {
+            followers.add(executor.submit(() -> flight.execute("board-1", () -> {
+                loads.incrementAndGet();
+                return "own load";
+            })));
+        }
+        // Give the followers time to join the in-flight load before it completes.
+        Thread.sleep(200);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("lists");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("lists");
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void differentKeysLoadIndependently() {
+        SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofSeconds(10));
+
+        assertThat(flight.execute("a", () -> "A")).isEqualTo("A");
+        assertThat(flight.execute("b", () -> "B")).isEqualTo("B");
+    }
+
+    @Test
+    void loaderExceptionsReachEveryWaitingCaller() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("database down");
+
+        Future<String> leader = executor.submit(() -> flight.execute("board-1", () -> {
+            awaitRelease(release);
+            throw failure;
+        }));
+        await().until(() -> flight.inFlightCount() == 1);
+        Future<String> follower = executor.submit(() -> flight.execute("board-1", () -> "own load"));
+        // Give the follower time to join the in-flight load before it fails.
+        Thread.sleep(200);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(failure);
+    }
+
+    @Test
+    void waiterFallsBackToItsOwnLoadAfterTheTimeout() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> flight.execute("board-1", () -> {
+            awaitRelease(release);
+            return "slow";
+        }));
+        await().until(() -> flight.inFlightCount() == 1);
+
+        try {
+            assertThat(flight.execute("board-1", () -> "own load")).isEqualTo("own load");
+        } finally {
+            release.countDown();
+        }
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    @Test
+    void finishedLoadsAreNotCached() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(Duration.ofSeconds(10));
+        AtomicInteger loads = new AtomicInteger();
+
+        flight.execute("board-1", loads::incrementAndGet);
+        flight.execute("board-1", loads::incrementAndGet);
+
+        assertThat(loads).hasValue(2);
+        assertThat(flight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void failedLoadsReleaseTheirKey() {
+        SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofSeconds(10));
+
+        assertThatThrownBy(() -> flight.execute("board-1", () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(flight.inFlightCount()).isZero();
+        assertThat(flight.execute("board-1", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    private static void awaitRelease(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.taskflow.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+    private static final int CAPACITY = 10;
+    private static final long PERIOD = TimeUnit.SECONDS.toNanos(60);
+    // One token every six seconds.
+    private static final long INTERVAL = PERIOD / CAPACITY;
+    private static final long START = 1_000_000_000L;
+
+    @Test
+    void allowsAFullBurstThenRejects() {
+        TokenBucket bucket = new TokenBucket(CAPACITY, PERIOD, START);
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(bucket.tryAcquire(START)).isZero();
+        }
+
+        assertThat(bucket.tryAcquire(START)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void refillsOneTokenPerEmissionInterval() {
+        TokenBucket bucket = new TokenBucket(CAPACITY, PERIOD, START);
+        drainBurst(bucket, START);
+
+        assertThat(bucket.tryAcquire(START + INTERVAL - 1)).isEqualTo(1);
+        assertThat(bucket.tryAcquire(START + INTERVAL)).isZero();
+        assertThat(bucket.tryAcquire(START + INTERVAL)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void aRejectedAttemptDoesNotSpendATokenOrExtendTheWait() {
+        TokenBucket bucket = new TokenBucket(CAPACITY, PERIOD, START);
+        drainBurst(bucket, START);
+
+        assertThat(bucket.tryAcquire(START)).isEqualTo(INTERVAL);
+        assertThat(bucket.tryAcquire(START)).isEqualTo(INTERVAL);
+        assertThat(bucket.tryAcquire(START + INTERVAL)).isZero();
+    }
+
+    @Test
+    void idleTimeRefillsUpToCapacityOnly() {
+        TokenBucket bucket = new TokenBucket(CAPACITY, PERIOD, START);
+        drainBurst(bucket, START);
+
+        long later = START + 10 * PERIOD;
+        assertThat(bucket.isFull(later)).isTrue();
+        drainBurst(bucket, later);
+        assertThat(bucket.tryAcquire(later)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void isFullOnlyOnceEverySpentTokenIsBack() {
+        TokenBucket bucket = new TokenBucket(CAPACITY, PERIOD, START);
+        assertThat(bucket.isFull(START)).isTrue();
+
+        bucket.tryAcquire(START);
+        bucket.tryAcquire(START);
+
+        assertThat(bucket.isFull(START + INTERVAL)).isFalse();
+        assertThat(bucket.isFull(START + 2 * INTERVAL)).isTrue();
+    }
+
+    @Test
+    void drainRemovesTokensSpentElsewhere() {
+        TokenBucket bucket = new TokenBucket(CAPACITY, PERIOD, START);
+
+        bucket.drain(7, START);
+
+        for (int i = 0; i < CAPACITY - 7; i++) {
+            assertThat(bucket.tryAcquire(START)).isZero();
+        }
+        assertThat(bucket.tryAcquire(START)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void drainingBeyondCapacityDelaysTheNextToken() {
+        TokenBucket bucket = new TokenBucket(CAPACITY, PERIOD, START);
+
+        bucket.drain(CAPACITY + 2, START);
+
+        // Two tokens of debt beyond an empty bucket: the next one is three intervals away.
+        assertThat(bucket.tryAcquire(START)).isEqualTo(3 * INTERVAL);
+        assertThat(bucket.tryAcquire(START + 3 * INTERVAL)).isZero();
+    }
+
+    @Test
+    void drainOnAnIdleBucketStartsFromNow() {
+        TokenBucket bucket = new TokenBucket(CAPACITY, PERIOD, START);
+        long later = START + 5 * PERIOD;
+
+        bucket.drain(CAPACITY, later);
+
+        assertThat(bucket.tryAcquire(later)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void drainIgnoresNonPositiveCounts() {
+        TokenBucket bucket = new TokenBucket(CAPACITY, PERIOD, START);
+
+        bucket.drain(0, START);
+        bucket.drain(-3, START);
+
+        assertThat(bucket.isFull(START)).isTrue();
+    }
+
+    private static void drainBurst(TokenBucket bucket, long now) {
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(bucket.tryAcquire(now)).isZero();
+        }
+    }
+}